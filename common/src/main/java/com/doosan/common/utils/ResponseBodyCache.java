@@ -0,0 +1,229 @@
+package com.doosan.common.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 직렬화된 응답 본문 캐시 (조회 API의 성공 응답을 JSON 바이트와 ETag로 저장)
+// 적중 시 Jackson 직렬화 없이 저장된 바이트를 그대로 응답하고, If-None-Match가 ETag와 같으면 본문 없이 304 응답
+// 스프링 빈이 아니므로 사용하는 서비스에서 설정값으로 생성 (상품 상세/목록, 주문 조회에서 각각 사용)
+public class ResponseBodyCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseBodyCache.class);
+
+    private final ObjectMapper objectMapper;
+    private final int maxSize; // 최대 저장 응답 수
+    private final long ttlMillis; // 응답 유지 시간
+
+    private final AtomicLong generation = new AtomicLong(); // 전체 무효화마다 증가 (이전 세대 응답은 미스로 처리)
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+    private final Map<String, PendingLoad> loading = new ConcurrentHashMap<>(); // 키별 진행 중인 조회
+
+    // 적중 경로에서 전역 락을 잡지 않도록 동시성 맵 사용 (최대 크기를 넘으면 가장 오래 사용하지 않은 응답부터 일부 제거)
+    private final Map<String, CachedBody> bodies = new ConcurrentHashMap<>();
+    private final Object trimLock = new Object();
+
+    public ResponseBodyCache(ObjectMapper objectMapper, int maxSize, long ttlMillis) {
+        this.objectMapper = objectMapper;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    // 캐시된 응답 (없으면 loader 응답을 직렬화해 저장, 2xx 응답만 저장하고 나머지는 그대로 반환)
+    public ResponseEntity<?> get(String key, String ifNoneMatch, Supplier<? extends ResponseEntity<?>> loader) {
+        CachedBody cached = read(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return respond(cached, ifNoneMatch);
+        }
+        misses.incrementAndGet();
+
+        // 같은 키의 동시 미스는 한 번만 조회
+        PendingLoad pending = new PendingLoad();
+        PendingLoad existing = loading.putIfAbsent(key, pending);
+        if (existing != null) {
+            CachedBody shared = joinQuietly(existing.future);
+            return shared != null ? respond(shared, ifNoneMatch) : loader.get(); // 먼저 조회한 요청이 실패하면 직접 조회
+        }
+
+        try {
+            long loadGeneration = generation.get();
+            ResponseEntity<?> response = loader.get();
+            CachedBody loaded = serialize(response, loadGeneration);
+            pending.future.complete(loaded);
+            if (loaded == null) {
+                return response; // 오류 응답은 저장하지 않음
+            }
+            bodies.put(key, loaded);
+            // 조회 중 제거/전체 무효화가 있었으면 이번 응답은 저장하지 않음 (저장 후 확인해 제거와 경합해도 남지 않음)
+            if (pending.stale || generation.get() != loadGeneration) {
+                bodies.remove(key, loaded);
+            } else if (bodies.size() > maxSize) {
+                trim();
+            }
+            return respond(loaded, ifNoneMatch);
+        } catch (RuntimeException e) {
+            pending.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, pending);
+        }
+    }
+
+    // 저장된 응답과 진행 중인 조회 결과를 모두 무효화
+    public void evict(String key) {
+        PendingLoad pending = loading.get(key);
+        if (pending != null) {
+            pending.stale = true;
+        }
+        bodies.remove(key);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        bodies.clear();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getNotModified() {
+        return notModified.get();
+    }
+
+    private CachedBody read(String key) {
+        long now = System.currentTimeMillis();
+        CachedBody cached = bodies.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt() <= now || cached.generation() != generation.get()) {
+            bodies.remove(key, cached);
+            return null;
+        }
+        cached.lastAccess = now;
+        return cached;
+    }
+
+    // 최대 크기를 넘으면 가장 오래 사용하지 않은 응답부터 10%를 한 번에 제거 (제거 비용을 여러 저장에 나눔)
+    private void trim() {
+        synchronized (trimLock) {
+            int excess = bodies.size() - maxSize;
+            if (excess <= 0) {
+                return;
+            }
+            int toRemove = Math.max(excess, maxSize / 10);
+            bodies.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccess))
+                    .limit(toRemove)
+                    .toList()
+                    .forEach(entry -> bodies.remove(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    private ResponseEntity<?> respond(CachedBody cached, String ifNoneMatch) {
+        if (ifNoneMatch != null && matches(ifNoneMatch, cached.etag())) {
+            notModified.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(cached.etag())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(cached.etag())
+                .body(cached.body());
+    }
+
+    // If-None-Match 목록 중 하나라도 같으면 일치 (약한 ETag 표시와 * 허용)
+    private boolean matches(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private CachedBody serialize(ResponseEntity<?> response, long loadGeneration) {
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            return null;
+        }
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(response.getBody());
+            String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            return new CachedBody(body, etag, System.currentTimeMillis() + ttlMillis, loadGeneration);
+        } catch (JsonProcessingException e) {
+            log.error("응답 직렬화 실패", e);
+            return null;
+        }
+    }
+
+    private CachedBody joinQuietly(CompletableFuture<CachedBody> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            return null;
+        }
+    }
+
+    private static final class CachedBody {
+        private final byte[] body;
+        private final String etag;
+        private final long expiresAt;
+        private final long generation;
+        private volatile long lastAccess = System.currentTimeMillis(); // 크기 초과 시 제거 순서
+
+        private CachedBody(byte[] body, String etag, long expiresAt, long generation) {
+            this.body = body;
+            this.etag = etag;
+            this.expiresAt = expiresAt;
+            this.generation = generation;
+        }
+
+        byte[] body() {
+            return body;
+        }
+
+        String etag() {
+            return etag;
+        }
+
+        long expiresAt() {
+            return expiresAt;
+        }
+
+        long generation() {
+            return generation;
+        }
+    }
+
+    // 진행 중인 조회 (조회 중 evict되면 stale로 표시해 결과를 저장하지 않음)
+    private static final class PendingLoad {
+        private final CompletableFuture<CachedBody> future = new CompletableFuture<>();
+        private volatile boolean stale;
+    }
+}
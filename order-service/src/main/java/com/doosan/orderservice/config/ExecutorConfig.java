@@ -1,16 +1,43 @@
 package com.doosan.orderservice.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
+// 가상 스레드 모드는 spring.threads.virtual.enabled=true 로 켬 (JDK 21 런타임에서만 적용)
+// 톰캣 요청 처리와 applicationTaskExecutor는 스프링 부트가 가상 스레드로 바꾸고, 여기서는 블로킹 스케줄러만 전환
 @Configuration
+@Slf4j
 public class ExecutorConfig {
-    
+
     @Bean
     public ExecutorService executorService() {
         return Executors.newFixedThreadPool(10); // 스레드 풀
     }
-} 
\ No newline at end of file
+
+    // Mono.fromCallable 블로킹 조회(JPA)를 실행할 스케줄러
+    // 기본은 boundedElastic (코어 수 x 10개까지 동시 실행), 가상 스레드 모드에서는 블로킹 호출마다 새 가상 스레드 사용 (풀링하지 않음)
+    @Bean
+    public Scheduler blockingScheduler(Environment environment) {
+        if (useVirtualThreads(environment)) {
+            return Schedulers.fromExecutor(new VirtualThreadTaskExecutor("order-virtual-"));
+        }
+        return Schedulers.boundedElastic();
+    }
+
+    private boolean useVirtualThreads(Environment environment) {
+        boolean active = Threading.VIRTUAL.isActive(environment);
+        if (!active && environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            log.warn("가상 스레드 모드는 JDK 21 이상에서만 사용 가능합니다. 기존 스레드 풀을 사용합니다. (현재: {})", Runtime.version());
+        }
+        return active;
+    }
+}
\ No newline at end of file
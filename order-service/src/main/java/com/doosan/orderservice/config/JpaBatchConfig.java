@@ -0,0 +1,22 @@
+package com.doosan.orderservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaBatchConfig {
+
+    @Value("${order.jdbc-batch-size:50}")
+    private int jdbcBatchSize;
+
+    // 주문 항목 INSERT를 JDBC 배치로 묶음 (MySQL은 URL에 rewriteBatchedStatements=true를 주면 다중 행 INSERT 한 번으로 전송)
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.put("hibernate.jdbc.batch_size", jdbcBatchSize);
+            properties.put("hibernate.order_inserts", true);
+        };
+    }
+}
@@ -2,6 +2,8 @@ package com.doosan.orderservice.config;
 
 import com.doosan.orderservice.event.NotificationEvent;
 import com.doosan.orderservice.event.OrderEvent;
+import com.doosan.orderservice.event.ProductChangedEvent;
+import com.doosan.orderservice.event.StockDeltaEvent;
 import com.doosan.orderservice.model.StockEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
@@ -14,6 +16,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 import reactor.kafka.sender.KafkaSender;
@@ -28,6 +31,15 @@ public class KafkaConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    @Value("${stock.write-behind.flush-interval-ms:1000}")
+    private long stockDeltaFlushIntervalMs;
+
+    @Value("${stock.write-behind.max-batch-size:5000}")
+    private int stockDeltaMaxPollRecords;
+
+    @Value("${order.async.consumer-concurrency:3}")
+    private int stockReservationConcurrency;
+
 
     //  StockEvent를 전송하기 위한 KafkaSender 생성
     @Bean
@@ -66,6 +78,76 @@ public class KafkaConfig {
         return factory;
     }
 
+    // 비동기 주문 예약 요청(StockEvent)을 소비하기 위한 ConsumerFactory 설정
+    @Bean
+    public ConsumerFactory<String, StockEvent> stockReservationConsumerFactory() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, "stock-reservation-group");
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false); // 처리 완료 후에만 커밋
+
+        return new DefaultKafkaConsumerFactory<>(config,
+            new StringDeserializer(),
+            new JsonDeserializer<>(StockEvent.class, false)); // 타입 헤더 무시
+    }
+
+    // 파티션별로 한 스레드가 순차 처리하는 Listener Container Factory 설정 (동시성은 파티션 수 이하로 설정)
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, StockEvent> stockReservationKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, StockEvent> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(stockReservationConsumerFactory());
+        factory.setConcurrency(stockReservationConcurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.RECORD); // 한 건 처리마다 커밋
+        return factory;
+    }
+
+    // StockDeltaEvent를 일괄 소비하기 위한 ConsumerFactory 설정
+    @Bean
+    public ConsumerFactory<String, StockDeltaEvent> stockDeltaConsumerFactory() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, "stock-write-behind-group");
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, stockDeltaMaxPollRecords); // 한 번에 반영할 최대 이벤트 수
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false); // 반영 완료 후에만 커밋
+
+        return new DefaultKafkaConsumerFactory<>(config,
+            new StringDeserializer(),
+            new JsonDeserializer<>(StockDeltaEvent.class, false)); // 타입 헤더 무시
+    }
+
+    // StockDeltaEvent를 반영 주기마다 묶어서 처리하는 Listener Container Factory 설정
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, StockDeltaEvent> stockDeltaKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, StockDeltaEvent> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(stockDeltaConsumerFactory());
+        factory.setBatchListener(true); // 일괄 소비
+        factory.getContainerProperties().setIdleBetweenPolls(stockDeltaFlushIntervalMs); // 반영 주기
+        return factory;
+    }
+
+    // 상품 변경 이벤트(ProductChangedEvent)를 소비하기 위한 ConsumerFactory 설정 (그룹 ID는 리스너에서 인스턴스별로 지정)
+    @Bean
+    public ConsumerFactory<String, ProductChangedEvent> productEventConsumerFactory() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest"); // 시작 이전 변경은 캐시 유지 시간으로 처리
+
+        return new DefaultKafkaConsumerFactory<>(config,
+            new StringDeserializer(),
+            new JsonDeserializer<>(ProductChangedEvent.class, false)); // 타입 헤더 무시
+    }
+
+    // 상품 변경 이벤트를 처리하기 위한 Listener Container Factory 설정
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ProductChangedEvent> productEventKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, ProductChangedEvent> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(productEventConsumerFactory());
+        return factory;
+    }
+
     // NotificationEvent를 전송하기 위한 KafkaSender 생성
     @Bean
     public KafkaSender<String, NotificationEvent> kafkaSender() {
@@ -4,16 +4,19 @@ import com.doosan.common.dto.ResponseDto;
 import com.doosan.common.exception.BusinessRuntimeException;
 import com.doosan.common.utils.JwtUtil;
 import com.doosan.common.utils.ParseRequestUtil;
+import com.doosan.orderservice.dto.OrderHistoryCursorPage;
 import com.doosan.orderservice.dto.OrderInfoResponse;
 import com.doosan.orderservice.dto.OrderStatusUpdateRequest;
 import com.doosan.orderservice.dto.WishListDto;
 import com.doosan.orderservice.dto.WishListOrderResponseDto;
+import com.doosan.orderservice.service.OrderResponseCache;
 import com.doosan.orderservice.service.OrderService;
 import com.doosan.orderservice.service.WishListService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.server.reactive.ServerHttpRequest;
@@ -30,9 +33,11 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderResponseCache orderResponseCache;
     private final WishListService wishListService;
     private final ParseRequestUtil parseRequestUtil;
     private final JwtUtil jwtUtil;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100; // 커서 조회 최대 페이지 크기
 
     // 토큰에서 id 추출
     private int extractUserId(String token) {
@@ -114,16 +119,19 @@ public class OrderController {
     }
 
 
+    // 주문 조회 (캐시된 응답은 ETag 포함, If-None-Match가 같으면 304 응답)
     @GetMapping("/{orderId}")
-    public Mono<ResponseEntity<ResponseDto<OrderInfoResponse>>> getOrderInfo(@PathVariable Long orderId) {
-        return Mono.fromCallable(() -> orderService.getOrderInfo(orderId))
-                .map(orderInfo -> ResponseEntity.ok(
-                        ResponseDto.<OrderInfoResponse>builder()
-                                .statusCode(HttpStatus.OK.value())
-                                .resultMessage("주문 조회 성공")
-                                .data(orderInfo)
-                                .build()
-                ))
+    public Mono<ResponseEntity<?>> getOrderInfo(
+            @PathVariable Long orderId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return Mono.<ResponseEntity<?>>fromCallable(() -> orderResponseCache.getOrderInfo(orderId, ifNoneMatch,
+                        () -> ResponseEntity.ok(
+                                ResponseDto.<OrderInfoResponse>builder()
+                                        .statusCode(HttpStatus.OK.value())
+                                        .resultMessage("주문 조회 성공")
+                                        .data(orderService.getOrderInfo(orderId))
+                                        .build()
+                        )))
                 .onErrorResume(e -> Mono.just(
                         ResponseEntity.badRequest()
                                 .body(ResponseDto.<OrderInfoResponse>builder()
@@ -165,5 +173,37 @@ public class OrderController {
                 ));
     }
 
+    // 커서 기반 주문 목록 조회 (nextCursor를 다음 요청의 cursor로 전달, 전체 건수는 계산하지 않음)
+    @GetMapping("/user/cursor")
+    public Mono<ResponseEntity<ResponseDto<OrderHistoryCursorPage>>> getUserOrdersByCursor(
+            ServerHttpRequest request,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") Date startDate,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") Date endDate) {
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        return parseRequestUtil.extractUserIdFromRequest(request)
+                .flatMap(userId ->
+                        Mono.fromCallable(() -> orderService.getUserOrdersByCursor(
+                                Long.valueOf(userId),
+                                cursor,
+                                pageSize,
+                                direction,
+                                status,
+                                startDate,
+                                endDate))
+                )
+                .map(orders -> ResponseEntity.ok(
+                        ResponseDto.<OrderHistoryCursorPage>builder()
+                                .statusCode(HttpStatus.OK.value())
+                                .resultMessage("주문 목록 조회 성공")
+                                .data(orders)
+                                .build()
+                ));
+    }
+
 
 }
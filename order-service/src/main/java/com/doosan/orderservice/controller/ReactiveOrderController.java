@@ -4,13 +4,19 @@ import com.doosan.common.dto.ResponseDto;
 import com.doosan.common.dto.order.CreateOrderReqDto;
 import com.doosan.common.exception.BusinessRuntimeException;
 import com.doosan.common.utils.JwtUtil;
+import com.doosan.orderservice.dto.AsyncOrderResult;
 import com.doosan.orderservice.dto.CreateOrderResDto;
+import com.doosan.orderservice.dto.WaitingRoomTicket;
+import com.doosan.orderservice.service.AsyncOrderService;
 import com.doosan.orderservice.service.OrderService;
+import com.doosan.orderservice.service.WaitingRoomService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.List;
 
@@ -21,6 +27,8 @@ import java.util.List;
 public class ReactiveOrderController {
     private final OrderService orderService;
     private final JwtUtil jwtUtil;
+    private final WaitingRoomService waitingRoomService;
+    private final AsyncOrderService asyncOrderService;
 
     @PostMapping("/create-order")
     public Mono<ResponseEntity<ResponseDto<CreateOrderResDto>>> createOrder(
@@ -28,7 +36,7 @@ public class ReactiveOrderController {
             @RequestBody List<CreateOrderReqDto> orderRequests) {
             
         return Mono.just(extractUserId(token))
-            .flatMap(userId -> orderService.createReactiveOrder(userId, orderRequests))
+            .flatMap(userId -> checkAdmission(userId).then(orderService.createReactiveOrder(userId, orderRequests)))
             .map(result -> 
                 ResponseEntity.ok(
                     ResponseDto.<CreateOrderResDto>builder()
@@ -50,6 +58,120 @@ public class ReactiveOrderController {
             );
     }
 
+    // 비동기 주문 접수 (재고 예약 요청을 큐에 추가하고 접수 번호를 바로 반환)
+    @PostMapping("/create-order/async")
+    public Mono<ResponseEntity<ResponseDto<AsyncOrderResult>>> createOrderAsync(
+            @RequestHeader("Authorization") String token,
+            @RequestBody List<CreateOrderReqDto> orderRequests) {
+        return Mono.fromCallable(() -> extractUserId(token))
+            .flatMap(userId -> checkAdmission(userId).then(asyncOrderService.submit(userId, orderRequests)))
+            .map(result -> ResponseEntity.status(HttpStatus.ACCEPTED).body(
+                ResponseDto.<AsyncOrderResult>builder()
+                    .statusCode(HttpStatus.ACCEPTED.value())
+                    .resultMessage("주문 접수 완료")
+                    .data(result)
+                    .build()
+            ))
+            .onErrorResume(e -> Mono.just(
+                ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseDto.<AsyncOrderResult>builder()
+                        .statusCode(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                        .resultMessage(e.getMessage())
+                        .build()
+                    )
+            ));
+    }
+
+    // 비동기 주문 처리 결과 조회 (폴링용)
+    @GetMapping("/create-order/async/{reservationId}")
+    public Mono<ResponseEntity<ResponseDto<AsyncOrderResult>>> getAsyncOrderResult(
+            @RequestHeader("Authorization") String token,
+            @PathVariable String reservationId) {
+        return Mono.fromCallable(() -> extractUserId(token))
+            .flatMap(userId -> asyncOrderService.getResult(reservationId, userId))
+            .map(result -> ResponseEntity.ok(
+                ResponseDto.<AsyncOrderResult>builder()
+                    .statusCode(HttpStatus.OK.value())
+                    .resultMessage("주문 처리 결과 조회 완료")
+                    .data(result)
+                    .build()
+            ))
+            .onErrorResume(e -> Mono.just(
+                ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseDto.<AsyncOrderResult>builder()
+                        .statusCode(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                        .resultMessage(e.getMessage())
+                        .build()
+                    )
+            ));
+    }
+
+    // 대기열 등록 (대기 번호 발급, 이미 대기 중이면 기존 번호 유지)
+    @PostMapping("/waiting-room")
+    public Mono<ResponseEntity<ResponseDto<WaitingRoomTicket>>> enterWaitingRoom(
+            @RequestHeader("Authorization") String token) {
+        return Mono.fromCallable(() -> extractUserId(token))
+            .flatMap(waitingRoomService::enter)
+            .map(ticket -> ResponseEntity.ok(
+                ResponseDto.<WaitingRoomTicket>builder()
+                    .statusCode(HttpStatus.OK.value())
+                    .resultMessage("대기열 등록 완료")
+                    .data(ticket)
+                    .build()
+            ))
+            .onErrorResume(e -> Mono.just(
+                ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseDto.<WaitingRoomTicket>builder()
+                        .statusCode(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                        .resultMessage(e.getMessage())
+                        .build()
+                    )
+            ));
+    }
+
+    // 대기 순번 조회 (폴링용)
+    @GetMapping("/waiting-room")
+    public Mono<ResponseEntity<ResponseDto<WaitingRoomTicket>>> getWaitingRoomStatus(
+            @RequestHeader("Authorization") String token) {
+        return Mono.fromCallable(() -> extractUserId(token))
+            .flatMap(waitingRoomService::getStatus)
+            .map(ticket -> ResponseEntity.ok(
+                ResponseDto.<WaitingRoomTicket>builder()
+                    .statusCode(HttpStatus.OK.value())
+                    .resultMessage("대기 순번 조회 완료")
+                    .data(ticket)
+                    .build()
+            ))
+            .onErrorResume(e -> Mono.just(
+                ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseDto.<WaitingRoomTicket>builder()
+                        .statusCode(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                        .resultMessage(e.getMessage())
+                        .build()
+                    )
+            ));
+    }
+
+    // 대기 순번 스트리밍 (입장 허용 또는 재고 소진 시 종료)
+    @GetMapping(value = "/waiting-room/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<WaitingRoomTicket> streamWaitingRoomStatus(
+            @RequestHeader("Authorization") String token,
+            @RequestParam(defaultValue = "1000") long intervalMillis) {
+        return Mono.fromCallable(() -> extractUserId(token))
+            .flatMapMany(userId -> waitingRoomService.streamStatus(userId, Math.max(intervalMillis, 500L)));
+    }
+
+    // 대기열 사용 시 입장 허용을 받은 사용자만 주문 가능 (입장 허용 1회당 주문 1건)
+    private Mono<Void> checkAdmission(int userId) {
+        if (!waitingRoomService.isEnabled()) {
+            return Mono.empty();
+        }
+        return waitingRoomService.consumeAdmission(userId)
+            .flatMap(admitted -> admitted
+                ? Mono.<Void>empty()
+                : Mono.error(new BusinessRuntimeException("대기열 입장 후 주문할 수 있습니다.")));
+    }
+
     private int extractUserId(String token) {
         if (token != null && token.startsWith(JwtUtil.BEARER_PREFIX)) {
             String actualToken = token.substring(7);
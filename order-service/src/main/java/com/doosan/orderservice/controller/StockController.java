@@ -1,13 +1,32 @@
 package com.doosan.orderservice.controller;
 
 import com.doosan.common.dto.ResponseDto;
+import com.doosan.common.enums.ProductCategory;
+import com.doosan.orderservice.dto.ProductCacheMetrics;
+import com.doosan.orderservice.dto.StockHistoryPage;
+import com.doosan.orderservice.dto.StockHistorySummary;
+import com.doosan.orderservice.dto.StockLockMetrics;
+import com.doosan.orderservice.dto.StockPrewarmReport;
+import com.doosan.orderservice.dto.StockReconciliationReport;
+import com.doosan.orderservice.dto.StockWriteBehindStatus;
+import com.doosan.orderservice.service.ProductCatalogCache;
+import com.doosan.orderservice.service.PurchaseLimitService;
+import com.doosan.orderservice.service.ReactiveStockLock;
+import com.doosan.orderservice.service.ShardedStockService;
+import com.doosan.orderservice.service.StockAdmissionGate;
+import com.doosan.orderservice.service.StockLeaseService;
+import com.doosan.orderservice.service.StockPrewarmService;
 import com.doosan.orderservice.service.StockService;
+import com.doosan.orderservice.service.StockWriteBehindService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
+import java.util.Date;
 import java.util.List;
 
 @RestController
@@ -16,12 +35,24 @@ import java.util.List;
 @Log4j2
 public class StockController {
     private final StockService stockService;
+    private final ShardedStockService shardedStockService;
+    private final StockAdmissionGate stockAdmissionGate;
+    private final StockLeaseService stockLeaseService;
+    private final StockWriteBehindService stockWriteBehindService;
+    private final StockPrewarmService stockPrewarmService;
+    private final PurchaseLimitService purchaseLimitService;
+    private final ReactiveStockLock reactiveStockLock;
+    private final ProductCatalogCache productCatalogCache;
+    private static final int MAX_HISTORY_PAGE_SIZE = 1000;
+    private static final long DEFAULT_SUMMARY_RANGE_MILLIS = 10 * 60 * 1000L;
+    private static final long MAX_SUMMARY_RANGE_MILLIS = 60 * 60 * 1000L;
 
     // 재고 초기화
     @PostMapping("/initialize/{productId}")
     public ResponseEntity<ResponseDto<Void>> initializeStock(@PathVariable Long productId) {
         try {
             stockService.initializeStock(productId);
+            stockAdmissionGate.reopen(productId).block(); // 품절 게이트 해제 전파
             return ResponseEntity.ok(
                 ResponseDto.<Void>builder()
                     .statusCode(HttpStatus.OK.value())
@@ -39,13 +70,199 @@ public class StockController {
         }
     }
 
-    // 재고 모니터링
+    // 판매 시작 전 재고 사전 적재 (상품 ID 목록 또는 카테고리)
+    @PostMapping("/prewarm")
+    public ResponseEntity<ResponseDto<StockPrewarmReport>> prewarmStock(
+            @RequestParam(required = false) List<Long> productIds,
+            @RequestParam(required = false) ProductCategory category) {
+        if ((productIds == null || productIds.isEmpty()) && category == null) {
+            return ResponseEntity.badRequest()
+                .body(ResponseDto.<StockPrewarmReport>builder()
+                    .statusCode(HttpStatus.BAD_REQUEST.value())
+                    .resultMessage("상품 ID 목록 또는 카테고리를 지정해야 합니다.")
+                    .build()
+                );
+        }
+
+        try {
+            StockPrewarmReport report = stockPrewarmService.prewarm(productIds, category);
+            return ResponseEntity.ok(
+                ResponseDto.<StockPrewarmReport>builder()
+                    .statusCode(HttpStatus.OK.value())
+                    .resultMessage("재고 사전 적재 완료")
+                    .data(report)
+                    .build()
+            );
+        } catch (Exception e) {
+            log.error("재고 사전 적재 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ResponseDto.<StockPrewarmReport>builder()
+                    .statusCode(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                    .resultMessage("재고 사전 적재 실패: " + e.getMessage())
+                    .build()
+                );
+        }
+    }
+
+    // 샤드 재고 초기화 (인기 상품 재고를 여러 키로 분산)
+    @PostMapping("/initialize/{productId}/sharded")
+    public Mono<ResponseEntity<ResponseDto<Long>>> initializeShardedStock(
+            @PathVariable Long productId,
+            @RequestParam(defaultValue = "8") int shards) {
+        return shardedStockService.initializeShardedStock(productId, shards)
+            .map(total -> ResponseEntity.ok(
+                ResponseDto.<Long>builder()
+                    .statusCode(HttpStatus.OK.value())
+                    .resultMessage("샤드 재고 초기화 완료")
+                    .data(total)
+                    .build()
+            ))
+            .onErrorResume(e -> {
+                log.error("샤드 재고 초기화 실패", e);
+                return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseDto.<Long>builder()
+                        .statusCode(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                        .resultMessage("샤드 재고 초기화 실패: " + e.getMessage())
+                        .build()
+                    ));
+            });
+    }
+
+    // 샤드 재고 재분배 (재고가 적으면 하나의 샤드로 모음)
+    @PostMapping("/rebalance/{productId}")
+    public Mono<ResponseEntity<ResponseDto<Boolean>>> rebalanceShardedStock(@PathVariable Long productId) {
+        return shardedStockService.rebalance(productId)
+            .map(drained -> ResponseEntity.ok(
+                ResponseDto.<Boolean>builder()
+                    .statusCode(HttpStatus.OK.value())
+                    .resultMessage("샤드 재고 재분배 완료")
+                    .data(drained)
+                    .build()
+            ));
+    }
+
+    // 1인당 구매 한도 설정 (만료 시각에 한도와 구매 기록이 함께 삭제)
+    @PostMapping("/limit/{productId}")
+    public Mono<ResponseEntity<ResponseDto<Long>>> setPurchaseLimit(
+            @PathVariable Long productId,
+            @RequestParam long limit,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date expiresAt) {
+        return purchaseLimitService.setLimit(productId, limit, expiresAt)
+            .map(saved -> ResponseEntity.ok(
+                ResponseDto.<Long>builder()
+                    .statusCode(HttpStatus.OK.value())
+                    .resultMessage("구매 한도 설정 완료")
+                    .data(limit)
+                    .build()
+            ))
+            .onErrorResume(e -> {
+                log.error("구매 한도 설정 실패", e);
+                return Mono.just(ResponseEntity.badRequest()
+                    .body(ResponseDto.<Long>builder()
+                        .statusCode(HttpStatus.BAD_REQUEST.value())
+                        .resultMessage("구매 한도 설정 실패: " + e.getMessage())
+                        .build()
+                    ));
+            });
+    }
+
+    // 1인당 구매 한도 해제
+    @DeleteMapping("/limit/{productId}")
+    public Mono<ResponseEntity<ResponseDto<Void>>> removePurchaseLimit(@PathVariable Long productId) {
+        return purchaseLimitService.removeLimit(productId)
+            .thenReturn(ResponseEntity.ok(
+                ResponseDto.<Void>builder()
+                    .statusCode(HttpStatus.OK.value())
+                    .resultMessage("구매 한도 해제 완료")
+                    .build()
+            ));
+    }
+
+    // 재고 임대 모드 활성화 (인스턴스가 블록 단위로 재고를 임대)
+    @PostMapping("/lease/{productId}")
+    public Mono<ResponseEntity<ResponseDto<Long>>> enableLeasing(@PathVariable Long productId) {
+        return stockLeaseService.enableLeasing(productId)
+            .map(initialStock -> ResponseEntity.ok(
+                ResponseDto.<Long>builder()
+                    .statusCode(HttpStatus.OK.value())
+                    .resultMessage("재고 임대 모드 활성화 완료")
+                    .data(initialStock)
+                    .build()
+            ))
+            .onErrorResume(e -> {
+                log.error("재고 임대 모드 활성화 실패", e);
+                return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ResponseDto.<Long>builder()
+                        .statusCode(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                        .resultMessage("재고 임대 모드 활성화 실패: " + e.getMessage())
+                        .build()
+                    ));
+            });
+    }
+
+    // 재고 대사 보고서 (임대 + 잔여 + 판매 = 초기 재고)
+    @GetMapping("/reconciliation/{productId}")
+    public Mono<ResponseEntity<ResponseDto<StockReconciliationReport>>> getReconciliationReport(
+            @PathVariable Long productId) {
+        return stockLeaseService.reconcile(productId)
+            .map(report -> ResponseEntity.ok(
+                ResponseDto.<StockReconciliationReport>builder()
+                    .statusCode(HttpStatus.OK.value())
+                    .resultMessage("재고 대사 조회 완료")
+                    .data(report)
+                    .build()
+            ));
+    }
+
+    // 상품 테이블 재고 write-behind 반영 상태 (지연 시간 포함)
+    @GetMapping("/write-behind/status")
+    public ResponseEntity<ResponseDto<StockWriteBehindStatus>> getWriteBehindStatus() {
+        return ResponseEntity.ok(
+            ResponseDto.<StockWriteBehindStatus>builder()
+                .statusCode(HttpStatus.OK.value())
+                .resultMessage("재고 반영 상태 조회 완료")
+                .data(stockWriteBehindService.getStatus())
+                .build()
+        );
+    }
+
+    // 리액티브 재고 락 대기/보유 시간 지표
+    @GetMapping("/lock/metrics")
+    public ResponseEntity<ResponseDto<StockLockMetrics>> getLockMetrics() {
+        return ResponseEntity.ok(
+            ResponseDto.<StockLockMetrics>builder()
+                .statusCode(HttpStatus.OK.value())
+                .resultMessage("재고 락 지표 조회 완료")
+                .data(reactiveStockLock.getMetrics())
+                .build()
+        );
+    }
+
+    // 상품 정보 캐시 적중/미스/제거 지표 (재고 수량은 캐시하지 않음)
+    @GetMapping("/product-cache/metrics")
+    public ResponseEntity<ResponseDto<ProductCacheMetrics>> getProductCacheMetrics() {
+        return ResponseEntity.ok(
+            ResponseDto.<ProductCacheMetrics>builder()
+                .statusCode(HttpStatus.OK.value())
+                .resultMessage("상품 캐시 지표 조회 완료")
+                .data(productCatalogCache.getMetrics())
+                .build()
+        );
+    }
+
+    // 재고 모니터링 (최신순 페이지 조회, cursor는 이전 페이지의 nextCursor, 기간은 선택)
     @GetMapping("/monitor/{productId}")
-    public ResponseEntity<ResponseDto<List<String>>> getStockHistory(@PathVariable Long productId) {
+    public ResponseEntity<ResponseDto<StockHistoryPage>> getStockHistory(
+            @PathVariable Long productId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
         try {
-            List<String> history = stockService.getStockMonitoringHistory(productId);
+            int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+            StockHistoryPage history = stockService.getStockMonitoringHistory(productId, from, to, cursor, pageSize);
             return ResponseEntity.ok(
-                ResponseDto.<List<String>>builder()
+                ResponseDto.<StockHistoryPage>builder()
                     .statusCode(HttpStatus.OK.value())
                     .resultMessage("재고 모니터링 조회 완료")
                     .data(history)
@@ -54,11 +271,48 @@ public class StockController {
         } catch (Exception e) {
             log.error("재고 모니터링 조회 실패", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(ResponseDto.<List<String>>builder()
+                .body(ResponseDto.<StockHistoryPage>builder()
                     .statusCode(HttpStatus.INTERNAL_SERVER_ERROR.value())
                     .resultMessage("재고 모니터링 조회 실패: " + e.getMessage())
                     .build()
                 );
         }
     }
-} 
\ No newline at end of file
+
+    // 재고 모니터링 집계 (초 단위 차감 건수, 최소/최대 재고, 기간 미지정 시 최근 10분)
+    @GetMapping("/monitor/{productId}/summary")
+    public ResponseEntity<ResponseDto<StockHistorySummary>> getStockHistorySummary(
+            @PathVariable Long productId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to) {
+        Date end = to != null ? to : new Date();
+        Date start = from != null ? from : new Date(end.getTime() - DEFAULT_SUMMARY_RANGE_MILLIS);
+        if (start.after(end) || end.getTime() - start.getTime() > MAX_SUMMARY_RANGE_MILLIS) {
+            return ResponseEntity.badRequest()
+                .body(ResponseDto.<StockHistorySummary>builder()
+                    .statusCode(HttpStatus.BAD_REQUEST.value())
+                    .resultMessage("집계 기간이 올바르지 않습니다. (최대 1시간)")
+                    .build()
+                );
+        }
+
+        try {
+            StockHistorySummary summary = stockService.getStockMonitoringSummary(productId, start, end);
+            return ResponseEntity.ok(
+                ResponseDto.<StockHistorySummary>builder()
+                    .statusCode(HttpStatus.OK.value())
+                    .resultMessage("재고 모니터링 집계 완료")
+                    .data(summary)
+                    .build()
+            );
+        } catch (Exception e) {
+            log.error("재고 모니터링 집계 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ResponseDto.<StockHistorySummary>builder()
+                    .statusCode(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                    .resultMessage("재고 모니터링 집계 실패: " + e.getMessage())
+                    .build()
+                );
+        }
+    }
+}
\ No newline at end of file
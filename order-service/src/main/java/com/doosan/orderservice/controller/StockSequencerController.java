@@ -0,0 +1,32 @@
+package com.doosan.orderservice.controller;
+
+import com.doosan.common.exception.BusinessRuntimeException;
+import com.doosan.orderservice.service.StockSequencerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+// 단일 처리자 모드에서 다른 인스턴스가 전달한 재고 차감 요청 처리 (다시 전달하지 않고 로컬에서 처리)
+// 인스턴스 간 공유 비밀값 헤더가 일치하는 요청만 처리
+@RestController
+@RequiredArgsConstructor
+public class StockSequencerController {
+    private final StockSequencerService stockSequencerService;
+
+    @PostMapping("/internal/stock-sequencer/{productId}/reserve")
+    public Mono<Long> reserve(@PathVariable Long productId, @RequestParam Long quantity,
+                              @RequestHeader(value = StockSequencerService.SECRET_HEADER, required = false) String secret) {
+        if (!stockSequencerService.isTrustedCaller(secret)) {
+            return Mono.error(new BusinessRuntimeException("허용되지 않은 재고 차감 요청입니다."));
+        }
+        // 0 이하 수량은 차감 스크립트에서 재고를 늘리므로 거절
+        if (quantity == null || quantity <= 0) {
+            return Mono.error(new BusinessRuntimeException("차감 수량은 1 이상이어야 합니다."));
+        }
+        return stockSequencerService.reserveLocal(productId, quantity);
+    }
+}
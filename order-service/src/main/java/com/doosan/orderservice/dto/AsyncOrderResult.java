@@ -0,0 +1,22 @@
+package com.doosan.orderservice.dto;
+
+import com.doosan.orderservice.model.AsyncOrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AsyncOrderResult {
+    private String reservationId; // 주문 접수 번호 (결과 조회 시 사용)
+    private AsyncOrderStatus status; // 처리 상태
+    private Integer orderId; // 생성된 주문 ID (완료 시에만 존재)
+    private Integer totalPrice; // 주문 총 가격 (완료 시에만 존재)
+    private String message; // 거절 사유 (거절 시에만 존재)
+    private Date requestedAt; // 접수 시각
+}
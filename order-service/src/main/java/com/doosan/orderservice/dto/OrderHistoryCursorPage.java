@@ -0,0 +1,17 @@
+package com.doosan.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderHistoryCursorPage {
+    private List<OrderInfoResponse> orders; // 주문 목록 (주문 날짜, 주문 ID 순)
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+}
@@ -0,0 +1,24 @@
+package com.doosan.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductCacheMetrics {
+    private boolean enabled; // 상품 정보 캐시 사용 여부
+    private boolean redisEnabled; // Redis 2차 캐시 사용 여부
+    private int size; // 현재 로컬 캐시 항목 수
+    private int maxSize; // 로컬 캐시 최대 항목 수
+    private long hits; // 로컬 캐시 적중 횟수
+    private long redisHits; // Redis 2차 캐시 적중 횟수
+    private long misses; // 두 캐시 모두 없어 상품 서비스에서 조회한 상품 수
+    private double hitRate; // 로컬 + Redis 적중률
+    private long evictions; // 최대 크기 초과로 제거된 항목 수
+    private long expirations; // 유지 시간 만료로 제거된 항목 수
+    private long invalidations; // 상품 변경 이벤트로 제거된 횟수
+}
@@ -0,0 +1,20 @@
+package com.doosan.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockHistoryBucket {
+    private Date second; // 집계 구간 시작 시각 (초 단위)
+    private long decrementCount; // 차감 건수
+    private long decrementedQuantity; // 차감 수량 합계
+    private Long minStock; // 구간 내 최소 재고
+    private Long maxStock; // 구간 내 최대 재고
+}
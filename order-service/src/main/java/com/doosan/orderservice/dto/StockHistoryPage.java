@@ -0,0 +1,18 @@
+package com.doosan.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockHistoryPage {
+    private Long productId; // 상품 ID
+    private List<StockJournalEntry> entries; // 최신순 재고 변경 기록
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+}
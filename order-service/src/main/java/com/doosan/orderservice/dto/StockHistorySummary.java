@@ -0,0 +1,24 @@
+package com.doosan.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockHistorySummary {
+    private Long productId; // 상품 ID
+    private Date from; // 집계 시작 시각
+    private Date to; // 집계 종료 시각
+    private long decrementCount; // 전체 차감 건수
+    private long decrementedQuantity; // 전체 차감 수량
+    private Long minStock; // 기간 내 최소 재고
+    private Long maxStock; // 기간 내 최대 재고
+    private List<StockHistoryBucket> buckets; // 초 단위 집계
+}
@@ -0,0 +1,21 @@
+package com.doosan.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockJournalEntry {
+    private String id; // Redis 스트림 레코드 ID (페이지 커서로 사용)
+    private Date timestamp; // 재고 변경 시각
+    private Long productId; // 상품 ID
+    private Long delta; // 변경 수량 (차감은 음수)
+    private Long stock; // 변경 후 재고
+    private String operation; // 변경 유형
+}
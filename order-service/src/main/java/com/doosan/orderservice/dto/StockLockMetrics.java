@@ -0,0 +1,22 @@
+package com.doosan.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockLockMetrics {
+    private boolean leaseFree; // 락 없는 스크립트 모드 여부
+    private long acquired; // 락 획득 횟수
+    private long failed; // 대기 시간 내 락 획득 실패 횟수
+    private long releaseFailed; // 락 해제 실패 횟수 (임대 시간 만료 후 해제 등)
+    private double averageWaitMillis; // 평균 락 대기 시간
+    private double averageHoldMillis; // 평균 락 보유 시간
+    private double maxHoldMillis; // 최대 락 보유 시간
+    private long scriptExecutions; // 락 없는 스크립트 실행 횟수
+    private long scriptRetries; // 다른 요청이 락을 보유해 스크립트를 재시도한 횟수
+}
@@ -0,0 +1,24 @@
+package com.doosan.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockPrewarmReport {
+    private int requestedProducts; // 적재 대상 상품 수
+    private int loadedKeys; // Redis에 적재한 재고 키 수
+    private List<Long> skippedProductIds; // 샤드/임대 모드라 건너뛴 상품
+    private List<Long> soldOutProductIds; // 재고 0으로 품절 표시한 상품
+    private long loadMillis; // 상품 재고 조회 시간
+    private long writeMillis; // Redis 적재 시간
+    private long elapsedMillis; // 전체 소요 시간
+    private Date completedDate; // 완료 시간
+}
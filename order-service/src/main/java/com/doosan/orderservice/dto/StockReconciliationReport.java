@@ -0,0 +1,22 @@
+package com.doosan.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReconciliationReport {
+    private Long productId; // 상품 ID
+    private Long initialStock; // 임대 모드 활성화 시점의 재고
+    private Long remainingStock; // 중앙 Redis 재고
+    private Long leasedStock; // 인스턴스에 임대된 재고 (미정산 판매분 포함)
+    private Long soldStock; // 정산된 판매 수량
+    private Map<String, Long> leasesByInstance; // 인스턴스별 임대 재고
+    private boolean balanced; // 임대 + 잔여 + 판매 = 초기 재고 여부
+}
@@ -0,0 +1,21 @@
+package com.doosan.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockWriteBehindStatus {
+    private boolean enabled; // write-behind 모드 여부
+    private long appliedEvents; // 반영된 재고 변경 이벤트 수
+    private long flushedStatements; // 실행된 UPDATE 문 수
+    private long skippedEvents; // 재처리로 건너뛴 이벤트 수
+    private long lastLagMillis; // 마지막 반영 시 가장 오래된 이벤트의 지연 시간
+    private Date lastFlushDate; // 마지막 반영 시간
+}
@@ -0,0 +1,21 @@
+package com.doosan.orderservice.dto;
+
+import com.doosan.orderservice.model.WaitingRoomStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitingRoomTicket {
+    private Integer userId; // 사용자 ID
+    private WaitingRoomStatus status; // 대기 상태
+    private Long ticket; // 대기 번호 (입장 순서)
+    private Long position; // 현재 대기 순번 (1부터 시작, 대기 중일 때만 존재)
+    private Date admittedUntil; // 주문 가능 만료 시각 (입장 허용 시에만 존재)
+}
@@ -10,7 +10,10 @@ import lombok.NoArgsConstructor;
 import java.util.Date;
 
 @Entity
-@Table(name = "`order`")
+@Table(name = "`order`", indexes = {
+        // 사용자별 주문 내역 커서 조회 ((주문 날짜, 주문 ID) 탐색)
+        @Index(name = "idx_order_user_date_id", columnList = "userId, orderDate, id")
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -13,8 +13,14 @@ import lombok.*;
 @EqualsAndHashCode(callSuper = true)
 public class OrderItem extends CommonEntity {
 
+    public static final int ID_ALLOCATION_SIZE = 100;
+
+    // IDENTITY는 INSERT마다 키를 받아와야 해서 JDBC 일괄 INSERT가 불가능하므로 테이블 기반 키 할당 사용
+    // 빠른 경로 설정과 관계없이 모든 주문 항목에 적용되며, 기동 시 OrderItemIdSeeder가 기존 최대 ID 이후로 초기값을 맞춤
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_item_id")
+    @TableGenerator(name = "order_item_id", table = "id_generator", pkColumnName = "id_name",
+            valueColumnName = "next_val", pkColumnValue = "order_item", allocationSize = ID_ALLOCATION_SIZE)
     private int id;
     private int orderId; // 주문 ID
     private int productId; // 상품 ID
@@ -0,0 +1,42 @@
+package com.doosan.orderservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+// 주문 내역 조회용 비정규화 테이블 (주문 이벤트로 갱신, 주문 항목과 상품 이름을 JSON으로 함께 저장)
+@Entity
+@Table(name = "order_summary", indexes = {
+        @Index(name = "idx_order_summary_user_date", columnList = "userId, orderDate, orderId")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSummary {
+
+    @Id
+    private int orderId; // 주문 ID
+
+    private int userId; // 사용자 ID
+
+    private Date orderDate; // 주문 날짜
+
+    private long totalPrice; // 총 주문 금액
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status; // 주문 상태
+
+    @Enumerated(EnumType.STRING)
+    private PaymentStatus paymentStatus; // 결제 상태
+
+    @Lob
+    @Column(columnDefinition = "TEXT")
+    private String items; // 주문 항목 목록 (OrderItemResponse JSON 배열)
+
+    private Date updatedDate; // 마지막 반영 시각
+}
@@ -0,0 +1,21 @@
+package com.doosan.orderservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "stock_write_behind_offset")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockWriteBehindOffset {
+
+    @Id
+    private String topicPartition; // 토픽-파티션 (예: stock-deltas-0)
+
+    private long appliedOffset; // 상품 테이블에 반영된 마지막 오프셋
+}
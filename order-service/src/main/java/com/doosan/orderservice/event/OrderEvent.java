@@ -1,5 +1,6 @@
 package com.doosan.orderservice.event;
 
+import com.doosan.orderservice.entity.OrderStatus;
 import com.doosan.orderservice.entity.PaymentStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,4 +21,6 @@ public class OrderEvent {
     private PaymentStatus paymentStatus;   // 결제 상태
     private Date eventDate;  // 이벤트 발생 날짜
     private List<OrderItemEvent> items; // 주문 항목 목록
+    private Date orderDate; // 주문 날짜
+    private OrderStatus orderStatus; // 주문 상태
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.doosan.orderservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductChangedEvent {
+    private Long productId; // 변경된 상품 ID (null이면 전체 상품)
+    private String changeType; // 변경 유형 (PRODUCT_UPDATED, PRODUCT_DELETED 등)
+    private Date eventDate; // 이벤트 발생 시간
+}
@@ -0,0 +1,18 @@
+package com.doosan.orderservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockDeltaEvent {
+    private Long productId; // 상품 ID
+    private Long delta; // 재고 변경 수량 (음수: 차감, 양수: 복구)
+    private Date eventDate; // 이벤트 발생 시간
+}
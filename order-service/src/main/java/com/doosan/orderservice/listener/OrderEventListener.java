@@ -75,9 +75,10 @@ public class OrderEventListener {
         return Mono.when(
             // 재고 복구
             Flux.fromIterable(event.getItems())
-                .flatMap(item -> stockService.restoreStock(
+                .flatMap(item -> stockService.restoreSavedStock(
                     item.getProductId(),
-                    item.getQuantity()
+                    item.getQuantity(),
+                    toUserId(event)
                 )
                 .onErrorResume(e -> {
                     log.error("재고 복구 실패 - productId: {}, quantity: {}, error: {}", 
@@ -117,9 +118,10 @@ public class OrderEventListener {
     private Mono<Void> handlePaymentFailed(OrderEvent event) {
         return Flux.fromIterable(event.getItems())
                 // 재고 복구
-            .flatMap(item -> stockService.restoreStock(
+            .flatMap(item -> stockService.restoreSavedStock(
                 item.getProductId(),
-                item.getQuantity()
+                item.getQuantity(),
+                toUserId(event)
             ))
                 // 결제 실패 기록
             .then(paymentService.recordPaymentFailure(
@@ -146,9 +148,10 @@ public class OrderEventListener {
         .then(Mono.when(
                 // 재고 복구
             Flux.fromIterable(event.getItems())
-                .flatMap(item -> stockService.restoreStock(
+                .flatMap(item -> stockService.restoreSavedStock(
                     item.getProductId(),
-                    item.getQuantity()
+                    item.getQuantity(),
+                    toUserId(event)
                 ))
                 .then(),
             // 주문 취소 알림 전송
@@ -161,4 +164,9 @@ public class OrderEventListener {
         .doOnError(e -> log.error("주문 취소된 이벤트 처리 실패: {}", event, e))
         .onErrorResume(e -> handleCompensation(event));
     }
+
+    // 구매 한도 반환용 사용자 ID
+    private Integer toUserId(OrderEvent event) {
+        return event.getUserId() != null ? event.getUserId().intValue() : null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.doosan.orderservice.listener;
+
+import com.doosan.orderservice.event.OrderEvent;
+import com.doosan.orderservice.service.OrderHistoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OrderSummaryEventListener {
+
+    private final OrderHistoryService orderHistoryService;
+
+    // 주문 이벤트로 주문 내역 테이블 갱신 (주문 ID 키로 같은 파티션에서 순서대로 반영)
+    @KafkaListener(topics = "${kafka.topic.order-events}", groupId = "order-summary-group",
+            autoStartup = "${order.history.summary.enabled:false}")
+    public void handleOrderEvent(OrderEvent event) {
+        try {
+            orderHistoryService.applyEvent(event);
+        } catch (Exception e) {
+            log.error("주문 내역 반영 실패: {}", event, e);
+            throw e;
+        }
+    }
+}
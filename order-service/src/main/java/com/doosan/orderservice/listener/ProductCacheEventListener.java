@@ -0,0 +1,28 @@
+package com.doosan.orderservice.listener;
+
+import com.doosan.orderservice.event.ProductChangedEvent;
+import com.doosan.orderservice.service.ProductCatalogCache;
+import com.doosan.productservice.service.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class ProductCacheEventListener {
+    private final ProductCatalogCache productCatalogCache;
+    private final ProductService productService;
+
+    // 인스턴스마다 다른 그룹으로 구독해 모든 인스턴스가 자신의 로컬 캐시를 제거 (상품 상세/목록 캐시 포함)
+    @KafkaListener(topics = "${kafka.topic.product-events:product-events}",
+            groupId = "product-cache-#{T(java.util.UUID).randomUUID()}",
+            containerFactory = "productEventKafkaListenerContainerFactory",
+            autoStartup = "${product.cache.enabled:false}")
+    public void handleProductEvent(ProductChangedEvent event) {
+        log.info("상품 변경 이벤트 수신 - 상품: {}, 유형: {}", event.getProductId(), event.getChangeType());
+        productCatalogCache.invalidate(event.getProductId());
+        productService.onProductChanged(event.getProductId());
+    }
+}
@@ -29,6 +29,12 @@ public class ReactiveStockEventListener {
                 .doOnSuccess(v -> log.info("재고 복구 완료: {}", event))
                 .doOnError(e -> log.error("재고 복구 실패: {}", event, e));
                 
+            // 품절 게이트 해제는 인스턴스별 리스너(StockAdmissionEventListener)에서 처리
+            case STOCK_AVAILABLE -> Mono.empty();
+
+            // 비동기 주문 예약은 전용 그룹 리스너(StockReservationEventListener)에서 처리
+            case RESERVATION_REQUESTED -> Mono.empty();
+
             default -> Mono.error(new IllegalArgumentException("알 수 없는 이벤트 타입: " + event.getEventType()));
         };
     }
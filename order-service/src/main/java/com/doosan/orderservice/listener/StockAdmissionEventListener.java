@@ -0,0 +1,25 @@
+package com.doosan.orderservice.listener;
+
+import com.doosan.orderservice.model.StockEvent;
+import com.doosan.orderservice.model.StockEventType;
+import com.doosan.orderservice.service.StockAdmissionGate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class StockAdmissionEventListener {
+    private final StockAdmissionGate stockAdmissionGate;
+
+    // 인스턴스마다 고유 그룹 ID를 사용해 모든 인스턴스가 재입고 이벤트를 수신
+    @KafkaListener(topics = "stock-events", groupId = "stock-admission-#{T(java.util.UUID).randomUUID()}")
+    public void handleStockEvent(StockEvent event) {
+        if (event.getEventType() == StockEventType.STOCK_AVAILABLE) {
+            stockAdmissionGate.clearLocal(event.getProductId());
+            log.info("품절 게이트 해제 - 상품: {}", event.getProductId());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.doosan.orderservice.listener;
+
+import com.doosan.orderservice.event.StockDeltaEvent;
+import com.doosan.orderservice.service.StockWriteBehindService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class StockDeltaListener {
+    private final StockWriteBehindService stockWriteBehindService;
+
+    // 반영 주기 동안 쌓인 재고 변경분을 한 번에 상품 테이블에 반영
+    @KafkaListener(
+            topics = "${kafka.topic.stock-deltas:stock-deltas}",
+            containerFactory = "stockDeltaKafkaListenerContainerFactory",
+            autoStartup = "${stock.write-behind.enabled:false}")
+    public void handleStockDeltas(List<ConsumerRecord<String, StockDeltaEvent>> records) {
+        log.debug("재고 변경 이벤트 수신: {}건", records.size());
+        stockWriteBehindService.flush(records);
+    }
+}
@@ -0,0 +1,26 @@
+package com.doosan.orderservice.listener;
+
+import com.doosan.orderservice.model.StockEvent;
+import com.doosan.orderservice.model.StockEventType;
+import com.doosan.orderservice.service.AsyncOrderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class StockReservationEventListener {
+    private final AsyncOrderService asyncOrderService;
+
+    // 파티션마다 소비 스레드 하나가 요청을 순서대로 처리 (Mono를 반환하지 않고 처리 완료 후 다음 레코드로 진행)
+    @KafkaListener(topics = "stock-events", groupId = "stock-reservation-group",
+            containerFactory = "stockReservationKafkaListenerContainerFactory",
+            autoStartup = "${order.async.enabled:false}")
+    public void handleStockEvent(StockEvent event) {
+        if (event.getEventType() == StockEventType.RESERVATION_REQUESTED) {
+            asyncOrderService.process(event);
+        }
+    }
+}
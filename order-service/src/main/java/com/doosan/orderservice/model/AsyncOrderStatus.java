@@ -0,0 +1,8 @@
+package com.doosan.orderservice.model;
+
+public enum AsyncOrderStatus {
+    PENDING, // 접수 (재고 예약 대기)
+    PROCESSING, // 재고 예약 및 주문 생성 중
+    COMPLETED, // 주문 생성 완료
+    REJECTED // 재고 부족, 구매 한도 초과 등으로 거절
+}
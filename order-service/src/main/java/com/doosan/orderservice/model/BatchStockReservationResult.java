@@ -0,0 +1,45 @@
+package com.doosan.orderservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class BatchStockReservationResult {
+    private final StockReservationStatus status; // 예약 결과
+    private final Long failedProductId; // 실패한 상품 ID (실패 시에만 존재)
+    private final Map<Long, Long> remainingStocks; // 상품별 차감 후 남은 재고 (성공 시에만 존재)
+
+    // 스크립트 응답 ("1,남은재고..." 또는 "-1,실패순번", "-2,실패순번", "-3,실패순번")을 결과 객체로 변환
+    public static BatchStockReservationResult fromReply(String reply, List<Long> productIds) {
+        String[] parts = reply.split(",");
+        if (!"1".equals(parts[0])) {
+            StockReservationStatus status = StockReservationResult.statusOf(Long.parseLong(parts[0]));
+            return failed(status, productIds.get(Integer.parseInt(parts[1]) - 1));
+        }
+
+        Map<Long, Long> remainingStocks = new LinkedHashMap<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            remainingStocks.put(productIds.get(i), Long.parseLong(parts[i + 1]));
+        }
+        return reserved(remainingStocks);
+    }
+
+    public static BatchStockReservationResult reserved(Map<Long, Long> remainingStocks) {
+        return new BatchStockReservationResult(StockReservationStatus.RESERVED, null, remainingStocks);
+    }
+
+    public static BatchStockReservationResult failed(StockReservationStatus status, Long failedProductId) {
+        return new BatchStockReservationResult(status, failedProductId, Map.of());
+    }
+
+    public boolean isReserved() {
+        return status == StockReservationStatus.RESERVED;
+    }
+}
@@ -0,0 +1,66 @@
+package com.doosan.orderservice.model;
+
+import com.doosan.common.exception.BusinessRuntimeException;
+
+import java.util.Map;
+
+// 주문 한 건의 상품 가격표 (long 키/값 배열 기반 개방 주소법, 조회 시 박싱 없음)
+public final class ProductPriceTable {
+    private final long[] keys;
+    private final long[] prices;
+    private final boolean[] used;
+    private final int mask;
+    private final int size;
+
+    private ProductPriceTable(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, expectedSize * 2 - 1)) << 1; // 적재율 50% 이하
+        this.keys = new long[capacity];
+        this.prices = new long[capacity];
+        this.used = new boolean[capacity];
+        this.mask = capacity - 1;
+        this.size = expectedSize;
+    }
+
+    public static ProductPriceTable of(Map<Long, Long> priceMap) {
+        ProductPriceTable table = new ProductPriceTable(priceMap.size());
+        priceMap.forEach((productId, price) -> table.put(productId, price));
+        return table;
+    }
+
+    private void put(long productId, long price) {
+        int slot = slotOf(productId);
+        keys[slot] = productId;
+        prices[slot] = price;
+        used[slot] = true;
+    }
+
+    // 키가 있는 슬롯 또는 비어 있는 첫 슬롯
+    private int slotOf(long productId) {
+        int slot = (int) (productId ^ (productId >>> 32)) * 0x9E3779B9 & mask;
+        while (used[slot] && keys[slot] != productId) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    public boolean contains(long productId) {
+        return used[slotOf(productId)];
+    }
+
+    public long priceOf(long productId) {
+        int slot = slotOf(productId);
+        if (!used[slot]) {
+            throw new BusinessRuntimeException("상품 가격을 조회할 수 없습니다.");
+        }
+        return prices[slot];
+    }
+
+    // 주문 항목 금액 (단가 x 수량)
+    public long lineTotal(long productId, long quantity) {
+        return priceOf(productId) * quantity;
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -1,10 +1,13 @@
 package com.doosan.orderservice.model;
 
+import com.doosan.common.dto.order.CreateOrderReqDto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -13,4 +16,7 @@ public class StockEvent {
     private StockEventType eventType; // 이벤트 타입
     private Long productId;// 상품 ID
     private Long quantity;  // 변경된 재고 수량
+    private String reservationId; // 비동기 주문 접수 번호 (RESERVATION_REQUESTED)
+    private Integer userId; // 주문 사용자 ID (RESERVATION_REQUESTED)
+    private List<CreateOrderReqDto> items; // 주문 상품 목록 (RESERVATION_REQUESTED)
 } 
\ No newline at end of file
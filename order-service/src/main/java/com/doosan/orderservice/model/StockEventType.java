@@ -2,5 +2,7 @@ package com.doosan.orderservice.model;
 
 public enum StockEventType {
     STOCK_REDUCED, // 재고 감소
-    STOCK_RESTORED // 재고 복구
+    STOCK_RESTORED, // 재고 복구
+    STOCK_AVAILABLE, // 품절 상품 재입고 (인스턴스별 품절 캐시 해제)
+    RESERVATION_REQUESTED // 비동기 주문의 재고 예약 요청
 } 
\ No newline at end of file
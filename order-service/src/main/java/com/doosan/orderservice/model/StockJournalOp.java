@@ -0,0 +1,20 @@
+package com.doosan.orderservice.model;
+
+public enum StockJournalOp {
+    DECREASE, // 동기 경로 재고 차감
+    REDUCE, // 리액티브 경로 재고 차감
+    REDUCE_SHARD, // 샤드 재고 차감 (남은 재고는 샤드 단위)
+    RESTORE, // 재고 복구
+    CONFIRMED; // 재고 차감 확정
+
+    private static final StockJournalOp[] VALUES = values();
+
+    // 저널 레코드에 기록되는 1바이트 코드
+    public byte code() {
+        return (byte) ordinal();
+    }
+
+    public static StockJournalOp fromCode(byte code) {
+        return VALUES[code];
+    }
+}
@@ -0,0 +1,54 @@
+package com.doosan.orderservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class StockReservationResult {
+    // 스크립트 반환 코드 (0 이상이면 차감 후 남은 재고)
+    public static final long INSUFFICIENT_CODE = -1L;
+    public static final long UNINITIALIZED_CODE = -2L;
+    public static final long LIMIT_EXCEEDED_CODE = -3L;
+    public static final long INVALID_QUANTITY_CODE = -4L;
+
+    private final StockReservationStatus status; // 예약 결과
+    private final Long remainingStock; // 차감 후 남은 재고 (성공 시에만 존재)
+
+    // Lua 스크립트 반환 코드를 결과 객체로 변환
+    public static StockReservationResult fromCode(Long code) {
+        if (code == null || code == UNINITIALIZED_CODE) {
+            return new StockReservationResult(StockReservationStatus.UNINITIALIZED, null);
+        }
+        if (code == INSUFFICIENT_CODE) {
+            return new StockReservationResult(StockReservationStatus.INSUFFICIENT, null);
+        }
+        if (code == LIMIT_EXCEEDED_CODE) {
+            return new StockReservationResult(StockReservationStatus.LIMIT_EXCEEDED, null);
+        }
+        if (code == INVALID_QUANTITY_CODE) {
+            return new StockReservationResult(StockReservationStatus.INVALID_QUANTITY, null);
+        }
+        return new StockReservationResult(StockReservationStatus.RESERVED, code);
+    }
+
+    // 반환 코드에 해당하는 예약 결과
+    public static StockReservationStatus statusOf(long code) {
+        if (code == UNINITIALIZED_CODE) {
+            return StockReservationStatus.UNINITIALIZED;
+        }
+        if (code == LIMIT_EXCEEDED_CODE) {
+            return StockReservationStatus.LIMIT_EXCEEDED;
+        }
+        if (code == INVALID_QUANTITY_CODE) {
+            return StockReservationStatus.INVALID_QUANTITY;
+        }
+        return code == INSUFFICIENT_CODE ? StockReservationStatus.INSUFFICIENT : StockReservationStatus.RESERVED;
+    }
+
+    public boolean isReserved() {
+        return status == StockReservationStatus.RESERVED;
+    }
+}
@@ -0,0 +1,9 @@
+package com.doosan.orderservice.model;
+
+public enum StockReservationStatus {
+    RESERVED, // 재고 차감 성공
+    INSUFFICIENT, // 재고 부족
+    UNINITIALIZED, // Redis에 재고 키가 없음
+    LIMIT_EXCEEDED, // 1인당 구매 한도 초과
+    INVALID_QUANTITY // 0 이하 수량
+}
@@ -0,0 +1,8 @@
+package com.doosan.orderservice.model;
+
+public enum WaitingRoomStatus {
+    NOT_IN_QUEUE, // 대기열에 없음
+    WAITING, // 입장 대기 중
+    ADMITTED, // 입장 허용 (주문 가능)
+    SOLD_OUT // 재고 소진으로 입장 종료
+}
@@ -4,9 +4,13 @@ import com.doosan.orderservice.entity.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, Integer> {
     List<OrderItem> findByOrderId(int orderId);
+
+    // 여러 주문의 항목을 한 번의 IN 쿼리로 조회
+    List<OrderItem> findByOrderIdIn(Collection<Integer> orderIds);
 }
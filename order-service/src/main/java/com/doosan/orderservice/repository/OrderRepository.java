@@ -1,13 +1,16 @@
 package com.doosan.orderservice.repository;
 
 import com.doosan.orderservice.entity.Order;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Integer> {
-    Page<Order> findAll(Specification<Order> spec, Pageable pageable);
+public interface OrderRepository extends JpaRepository<Order, Integer>, JpaSpecificationExecutor<Order> {
+
+    // 주문 내역 백필용 (주문 ID 순 묶음 조회)
+    List<Order> findByIdGreaterThan(Integer id, Pageable pageable);
 }
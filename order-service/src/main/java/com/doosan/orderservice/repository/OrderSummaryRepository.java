@@ -0,0 +1,8 @@
+package com.doosan.orderservice.repository;
+
+import com.doosan.orderservice.entity.OrderSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, Integer>, JpaSpecificationExecutor<OrderSummary> {
+}
@@ -0,0 +1,7 @@
+package com.doosan.orderservice.repository;
+
+import com.doosan.orderservice.entity.StockWriteBehindOffset;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface StockWriteBehindOffsetRepository extends JpaRepository<StockWriteBehindOffset, String> {
+}
@@ -0,0 +1,215 @@
+package com.doosan.orderservice.service;
+
+import com.doosan.common.dto.order.CreateOrderReqDto;
+import com.doosan.common.exception.BusinessRuntimeException;
+import com.doosan.orderservice.dto.AsyncOrderResult;
+import com.doosan.orderservice.dto.CreateOrderResDto;
+import com.doosan.orderservice.model.AsyncOrderStatus;
+import com.doosan.orderservice.model.StockEvent;
+import com.doosan.orderservice.model.StockEventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// 비동기 주문 모드 (주문 요청을 stock-events 토픽에 추가하고 접수 번호를 바로 반환, 파티션별 소비자가 순차 처리)
+// 같은 상품의 요청은 같은 파티션에 쌓이므로 락 경합 없이 처리되고, 처리량은 파티션 수로 확장
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class AsyncOrderService {
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private final ReactiveStockEventService reactiveStockEventService;
+    private final StockAdmissionGate stockAdmissionGate;
+    private final OrderService orderService;
+    private static final String RESULT_KEY_PREFIX = "order:async:"; // 접수 번호별 처리 결과 (Hash)
+
+    private static final long CLAIMED = 1L; // 접수 상태에서 처리 시작
+    private static final long RECLAIMED = 2L; // 처리 중 상태였으나 처리 기한이 지나 다시 처리
+    private static final long HELD = -1L; // 다른 처리자가 기한 안에서 처리 중
+
+    // 처리 시작 기록 (ARGV[1]: 접수, ARGV[2]: 처리 중, ARGV[3]: 처리자 토큰, ARGV[4]: 현재 시각, ARGV[5]: 처리 기한)
+    // 접수 상태면 처리 시작, 처리 중인데 기한이 지났으면(처리자 종료, 리밸런스) 다시 처리, 처리 완료/만료된 건은 0
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local status = redis.call('HGET', KEYS[1], 'status') " +
+            "local result = 0 " +
+            "if status == ARGV[1] then result = 1 " +
+            "elseif status == ARGV[2] then " +
+            "  local claimedAt = tonumber(redis.call('HGET', KEYS[1], 'claimedAt') or '0') " +
+            "  if tonumber(ARGV[4]) - claimedAt < tonumber(ARGV[5]) then return -1 end " +
+            "  result = 2 " +
+            "else return 0 end " +
+            "redis.call('HSET', KEYS[1], 'status', ARGV[2], 'claimOwner', ARGV[3], 'claimedAt', ARGV[4]) " +
+            "redis.call('HINCRBY', KEYS[1], 'attempts', 1) " +
+            "return result",
+            Long.class);
+
+    // 처리 결과 기록 (현재 처리자일 때만, 같은 접수 번호의 결과는 한 번만 기록)
+    // ARGV[1]: 처리 중 상태, ARGV[2]: 처리자 토큰, ARGV[3]: 보관 시간, ARGV[4..]: 필드/값 쌍
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], 'status') ~= ARGV[1] " +
+            "  or redis.call('HGET', KEYS[1], 'claimOwner') ~= ARGV[2] then return 0 end " +
+            "for i = 4, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    @Value("${order.async.enabled:false}")
+    private boolean enabled;
+
+    @Value("${order.async.result-ttl-ms:600000}")
+    private long resultTtlMillis; // 처리 결과 보관 시간 (이 시간 안에 처리되지 않은 요청은 폐기)
+
+    @Value("${order.async.claim-timeout-ms:30000}")
+    private long claimTimeoutMillis; // 처리 기한 (처리 중 상태가 이 시간을 넘기면 재전달된 요청을 다시 처리)
+
+    @Value("${order.async.claim-poll-ms:500}")
+    private long claimPollMillis; // 다른 처리자가 처리 중일 때 상태 확인 간격
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private static String resultKey(String reservationId) {
+        return RESULT_KEY_PREFIX + reservationId;
+    }
+
+    // 접수 기록 후 예약 요청 발행 (여러 상품 주문은 가장 작은 상품 ID의 파티션으로 보내고, 재고는 스크립트로 한 번에 예약)
+    public Mono<AsyncOrderResult> submit(int userId, List<CreateOrderReqDto> orderRequests) {
+        if (!enabled) {
+            return Mono.error(new BusinessRuntimeException("비동기 주문 모드가 비활성화되어 있습니다."));
+        }
+        if (orderRequests == null || orderRequests.isEmpty()) {
+            return Mono.error(new BusinessRuntimeException("유효한 주문 요청이 없습니다."));
+        }
+        for (CreateOrderReqDto request : orderRequests) {
+            if (request.getQuantity() == null || request.getQuantity() <= 0) {
+                return Mono.error(new BusinessRuntimeException(
+                        String.format("상품 ID %d의 주문 수량은 1 이상이어야 합니다.", request.getProductId())));
+            }
+            if (stockAdmissionGate.isSoldOut(request.getProductId())) {
+                return Mono.error(new BusinessRuntimeException(
+                        String.format("상품 ID %d는 품절되었습니다.", request.getProductId())));
+            }
+        }
+
+        String reservationId = UUID.randomUUID().toString();
+        Date requestedAt = new Date();
+        StockEvent event = StockEvent.builder()
+                .eventType(StockEventType.RESERVATION_REQUESTED)
+                .productId(orderRequests.stream().map(CreateOrderReqDto::getProductId).min(Long::compare).orElseThrow())
+                .quantity(orderRequests.stream().mapToLong(CreateOrderReqDto::getQuantity).sum())
+                .reservationId(reservationId)
+                .userId(userId)
+                .items(orderRequests)
+                .build();
+
+        Map<String, String> fields = new HashMap<>();
+        fields.put("userId", String.valueOf(userId));
+        fields.put("status", AsyncOrderStatus.PENDING.name());
+        fields.put("requestedAt", String.valueOf(requestedAt.getTime()));
+
+        String key = resultKey(reservationId);
+        return reactiveRedisTemplate.opsForHash().putAll(key, fields)
+                .then(reactiveRedisTemplate.expire(key, Duration.ofMillis(resultTtlMillis)))
+                .then(reactiveStockEventService.publishStockEvent(event))
+                .onErrorResume(error -> reactiveRedisTemplate.delete(key).then(Mono.error(error)))
+                .thenReturn(AsyncOrderResult.builder()
+                        .reservationId(reservationId)
+                        .status(AsyncOrderStatus.PENDING)
+                        .requestedAt(requestedAt)
+                        .build());
+    }
+
+    // 파티션 소비 스레드에서 호출 (한 건씩 끝까지 처리해 파티션 내 순서 유지)
+    // 재전달된 요청이 처리 중이면 이전 처리자가 끝내거나 처리 기한이 지날 때까지 기다렸다가 다시 처리
+    public void process(StockEvent event) {
+        String key = resultKey(event.getReservationId());
+        String claimOwner = UUID.randomUUID().toString();
+        long claimed = claim(key, claimOwner);
+        while (claimed == HELD) {
+            try {
+                Thread.sleep(claimPollMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            claimed = claim(key, claimOwner);
+        }
+        if (claimed != CLAIMED && claimed != RECLAIMED) {
+            log.warn("이미 처리되었거나 만료된 주문 접수 건 - 접수 번호: {}", event.getReservationId());
+            return;
+        }
+        if (claimed == RECLAIMED) {
+            log.warn("처리 기한이 지난 주문 접수 건 재처리 - 접수 번호: {}", event.getReservationId());
+        }
+
+        Map<String, String> fields = new LinkedHashMap<>();
+        try {
+            CreateOrderResDto order = orderService.createReactiveOrder(event.getUserId(), event.getItems()).block();
+            fields.put("status", AsyncOrderStatus.COMPLETED.name());
+            fields.put("orderId", String.valueOf(order.getOrderId()));
+            fields.put("totalPrice", String.valueOf(order.getTotalPrice()));
+            log.info("비동기 주문 처리 완료 - 접수 번호: {}, 주문 ID: {}", event.getReservationId(), order.getOrderId());
+        } catch (Exception e) {
+            fields.put("status", AsyncOrderStatus.REJECTED.name());
+            fields.put("message", String.valueOf(e.getMessage()));
+            log.warn("비동기 주문 거절 - 접수 번호: {}, 사유: {}", event.getReservationId(), e.getMessage());
+        }
+
+        List<String> args = new ArrayList<>();
+        args.add(AsyncOrderStatus.PROCESSING.name());
+        args.add(claimOwner);
+        args.add(String.valueOf(resultTtlMillis));
+        fields.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+        Long written = reactiveRedisTemplate.execute(COMPLETE_SCRIPT, List.of(key), args)
+                .next()
+                .doOnError(error -> log.error("비동기 주문 결과 저장 실패 - 접수 번호: {}", event.getReservationId(), error))
+                .block();
+        if (written != null && written == 0L) {
+            // 처리 기한을 넘겨 다른 처리자가 다시 처리함 (결과는 먼저 기록한 쪽만 남음)
+            log.error("다른 처리자가 결과를 기록해 이번 결과를 버림 - 접수 번호: {}, 결과: {}", event.getReservationId(), fields);
+        }
+    }
+
+    private long claim(String key, String claimOwner) {
+        Long result = reactiveRedisTemplate.execute(CLAIM_SCRIPT, List.of(key),
+                        List.of(AsyncOrderStatus.PENDING.name(), AsyncOrderStatus.PROCESSING.name(), claimOwner,
+                                String.valueOf(System.currentTimeMillis()), String.valueOf(claimTimeoutMillis)))
+                .next()
+                .block();
+        return result == null ? 0L : result;
+    }
+
+    // 처리 결과 조회 (본인 접수 건만 조회 가능)
+    public Mono<AsyncOrderResult> getResult(String reservationId, int userId) {
+        return reactiveRedisTemplate.<String, String>opsForHash().entries(resultKey(reservationId))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .filter(fields -> String.valueOf(userId).equals(fields.get("userId")))
+                .switchIfEmpty(Mono.error(new BusinessRuntimeException("주문 접수 내역을 찾을 수 없습니다.")))
+                .map(fields -> AsyncOrderResult.builder()
+                        .reservationId(reservationId)
+                        .status(AsyncOrderStatus.valueOf(fields.get("status")))
+                        .orderId(fields.containsKey("orderId") ? Integer.valueOf(fields.get("orderId")) : null)
+                        .totalPrice(fields.containsKey("totalPrice") ? Integer.valueOf(fields.get("totalPrice")) : null)
+                        .message(fields.get("message"))
+                        .requestedAt(new Date(Long.parseLong(fields.get("requestedAt"))))
+                        .build());
+    }
+}
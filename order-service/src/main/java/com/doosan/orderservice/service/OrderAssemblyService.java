@@ -0,0 +1,131 @@
+package com.doosan.orderservice.service;
+
+import com.doosan.common.dto.order.CreateOrderReqDto;
+import com.doosan.common.exception.BusinessRuntimeException;
+import com.doosan.orderservice.dto.CreateOrderResDto;
+import com.doosan.orderservice.entity.Order;
+import com.doosan.orderservice.entity.OrderItem;
+import com.doosan.orderservice.entity.OrderStatus;
+import com.doosan.orderservice.entity.PaymentStatus;
+import com.doosan.orderservice.model.ProductPriceTable;
+import com.doosan.orderservice.repository.OrderItemRepository;
+import com.doosan.orderservice.repository.OrderRepository;
+import com.doosan.productservice.service.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+// 주문 조립 빠른 경로 (가격을 한 번에 조회하고 주문과 주문 항목을 메모리에서 만든 뒤 INSERT만 실행)
+// 주문 1건 = 주문 INSERT 1회 + 주문 항목 일괄 INSERT 1회, 이벤트는 커밋 후 주문당 1건
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OrderAssemblyService {
+    private final ProductService productService;
+    private final ProductPriceResolver productPriceResolver;
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderEventService orderEventService;
+    private final StockWriteBehindService stockWriteBehindService;
+
+    @Transactional
+    public CreateOrderResDto assemble(int userId, List<CreateOrderReqDto> requests) {
+        if (requests.isEmpty()) {
+            throw new BusinessRuntimeException("주문 항목이 없어 가격을 계산할 수 없습니다.");
+        }
+
+        ProductPriceTable prices = productPriceResolver.resolve(requests);
+        Date now = new Date();
+
+        List<OrderItem> orderItems = new ArrayList<>(requests.size());
+        int totalPrice = 0;
+        for (CreateOrderReqDto request : requests) {
+            int itemTotalPrice = Math.toIntExact(prices.lineTotal(request.getProductId(), request.getQuantity()));
+            totalPrice += itemTotalPrice;
+            orderItems.add(OrderItem.builder()
+                    .productId(request.getProductId().intValue())
+                    .quantity(request.getQuantity().intValue())
+                    .price(itemTotalPrice)
+                    .build());
+        }
+
+        Order order = new Order();
+        order.setUserId(userId);
+        order.setOrderDate(now);
+        order.setStatus(OrderStatus.ORDER_COMPLETE);
+        order.setPaymentStatus(PaymentStatus.PAYMENT_COMPLETED);
+        order.setPaymentCompletedDate(now);
+        order.setTotalPrice(totalPrice);
+        orderRepository.save(order);
+
+        orderItems.forEach(orderItem -> orderItem.setOrderId(order.getId()));
+        orderItemRepository.saveAll(orderItems);
+
+        applyProductStock(requests);
+        publishAfterCommit(order, orderItems);
+
+        return new CreateOrderResDto(order.getId(), userId, now, totalPrice);
+    }
+
+    // 상품 테이블 재고 차감 (write-behind 모드면 변경분 발행 결과까지 기다려 실패 시 주문을 롤백)
+    // 이미 발행한 차감분은 주문이 롤백되면 같은 수량의 복구분을 발행해 상쇄
+    private void applyProductStock(List<CreateOrderReqDto> requests) {
+        if (!stockWriteBehindService.isEnabled()) {
+            for (CreateOrderReqDto request : requests) {
+                productService.updateStock(CreateOrderReqDto.builder()
+                        .productId(request.getProductId())
+                        .quantity(-request.getQuantity())
+                        .build());
+            }
+            return;
+        }
+
+        List<CreateOrderReqDto> appended = new ArrayList<>(requests.size());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        revertAppended(appended);
+                    }
+                }
+            });
+        }
+        for (CreateOrderReqDto request : requests) {
+            stockWriteBehindService.append(request.getProductId(), -request.getQuantity()).block();
+            appended.add(request);
+        }
+    }
+
+    private void revertAppended(List<CreateOrderReqDto> appended) {
+        for (CreateOrderReqDto request : appended) {
+            try {
+                stockWriteBehindService.append(request.getProductId(), request.getQuantity()).block();
+            } catch (RuntimeException e) {
+                log.error("롤백된 주문의 재고 변경분 상쇄 실패 - 상품: {}, 수량: {}",
+                        request.getProductId(), request.getQuantity(), e);
+            }
+        }
+    }
+
+    // 롤백된 주문의 이벤트가 나가지 않도록 커밋 후 발행
+    private void publishAfterCommit(Order order, List<OrderItem> orderItems) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            orderEventService.publishPaymentCompletedEvent(order, orderItems);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                orderEventService.publishPaymentCompletedEvent(order, orderItems);
+            }
+        });
+    }
+}
@@ -38,6 +38,11 @@ public class OrderEventService {
         publishOrderEvent(order, items, "ORDER_CANCELLED"); // ORDER_CANCELLED 이벤트 타입으로 주문 이벤트 전송
     }
 
+    // 주문 상태 변경 이벤트 (취소/반품 신청/배송 상태 변경, 주문 내역 조회 테이블 갱신용)
+    public void publishOrderStatusChangedEvent(Order order) {
+        publishOrderEvent(order, List.of(), "ORDER_STATUS_CHANGED");
+    }
+
     // 주문 이벤트 공통
     private void publishOrderEvent(Order order, List<OrderItem> orderItems, String eventType) {
         // OrderEvent 객체 생성
@@ -48,6 +53,8 @@ public class OrderEventService {
                 .totalAmount((long) order.getTotalPrice()) // 총 금액
                 .paymentStatus(order.getPaymentStatus()) // 결제 상태
                 .eventDate(new Date()) // 이벤트 발생 시간
+                .orderDate(order.getOrderDate()) // 주문 날짜
+                .orderStatus(order.getStatus()) // 주문 상태
                 .items(orderItems.stream() // 주문 항목 리스트를 OrderItemEvent 객체로 변환
                         .map(this::convertToOrderItemEvent)
                         .collect(Collectors.toList()))
@@ -0,0 +1,42 @@
+package com.doosan.orderservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// 주문 내역 테이블 사용 전 생성된 주문을 주문 내역 테이블로 백필
+// 완료 전까지 주문 내역 조회는 주문 테이블을 사용하며, 이미 행이 있는 주문은 건너뜀
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class OrderHistoryBackfillService {
+    private final OrderHistoryService orderHistoryService;
+
+    @Value("${order.history.backfill.batch-size:500}")
+    private int batchSize;
+
+    private int lastOrderId; // 마지막으로 처리한 주문 ID (실패 시 이어서 진행)
+
+    @Scheduled(initialDelayString = "${order.history.backfill.initial-delay-ms:5000}",
+            fixedDelayString = "${order.history.backfill.interval-ms:60000}")
+    public void backfill() {
+        if (!orderHistoryService.isSummaryEnabled() || orderHistoryService.isBackfilled()) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        try {
+            int next;
+            while ((next = orderHistoryService.backfillBatch(lastOrderId, batchSize)) > 0) {
+                lastOrderId = next;
+            }
+            orderHistoryService.markBackfilled();
+            log.info("주문 내역 백필 완료 - 마지막 주문 ID: {}, 소요 시간: {}ms",
+                    lastOrderId, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("주문 내역 백필 실패 - 마지막 주문 ID: {}", lastOrderId, e);
+        }
+    }
+}
@@ -0,0 +1,380 @@
+package com.doosan.orderservice.service;
+
+import com.doosan.common.exception.BusinessRuntimeException;
+import com.doosan.orderservice.dto.OrderHistoryCursorPage;
+import com.doosan.orderservice.dto.OrderInfoResponse;
+import com.doosan.orderservice.dto.OrderItemResponse;
+import com.doosan.orderservice.entity.Order;
+import com.doosan.orderservice.entity.OrderItem;
+import com.doosan.orderservice.entity.OrderStatus;
+import com.doosan.orderservice.entity.OrderSummary;
+import com.doosan.orderservice.event.OrderEvent;
+import com.doosan.orderservice.event.OrderItemEvent;
+import com.doosan.orderservice.repository.OrderItemRepository;
+import com.doosan.orderservice.repository.OrderRepository;
+import com.doosan.orderservice.repository.OrderSummaryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.criteria.Path;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 주문 내역 조회 (주문 페이지 1회 + 주문 항목 IN 쿼리 1회 + 상품 이름 일괄 조회 1회)
+// 주문 내역 테이블(order_summary) 사용 시 주문 이벤트로 갱신된 행을 인덱스로 한 번에 조회
+// 기존 주문의 백필이 끝나기 전까지는 주문 테이블에서 조회
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class OrderHistoryService {
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final ProductCatalogCache productCatalogCache;
+    private final ObjectMapper objectMapper;
+    private static final TypeReference<List<OrderItemResponse>> ITEM_LIST_TYPE = new TypeReference<>() {};
+    private static final Set<String> SUMMARY_SORT_FIELDS = Set.of("orderDate", "totalPrice", "status");
+
+    @Value("${order.history.summary.enabled:false}")
+    private boolean summaryEnabled;
+
+    // 백필 완료 여부 (인스턴스별, 재시작 시 백필이 다시 확인함)
+    private volatile boolean backfilled;
+
+    public boolean isSummaryEnabled() {
+        return summaryEnabled;
+    }
+
+    public boolean isBackfilled() {
+        return backfilled;
+    }
+
+    public void markBackfilled() {
+        backfilled = true;
+    }
+
+    private boolean useSummary() {
+        return summaryEnabled && backfilled;
+    }
+
+    @Transactional(readOnly = true)
+    public Page<OrderInfoResponse> getUserOrders(Long userId, Long page, Long size,
+                                                 String sort, String direction, String status, Date startDate, Date endDate) {
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        int user = Math.toIntExact(userId);
+
+        if (useSummary()) {
+            Pageable pageable = PageRequest.of(page.intValue(), size.intValue(), Sort.by(sortDirection, summarySortField(sort)));
+            return orderSummaryRepository.findAll(OrderHistoryService.<OrderSummary>historySpec(user, status, startDate, endDate), pageable)
+                    .map(this::toResponse);
+        }
+
+        Pageable pageable = PageRequest.of(page.intValue(), size.intValue(),
+                Sort.by(sortDirection, StringUtils.hasText(sort) ? sort : "orderDate"));
+        Page<Order> orders = orderRepository.findAll(OrderHistoryService.<Order>historySpec(user, status, startDate, endDate), pageable);
+        return new PageImpl<>(toResponses(orders.getContent()), pageable, orders.getTotalElements());
+    }
+
+    // 커서 기반 주문 내역 조회 ((주문 날짜, 주문 ID) 인덱스로 이어서 탐색, 전체 건수 조회 없음)
+    @Transactional(readOnly = true)
+    public OrderHistoryCursorPage getUserOrdersByCursor(Long userId, String cursor, int size, String direction,
+                                                        String status, Date startDate, Date endDate) {
+        boolean ascending = Sort.Direction.fromString(direction).isAscending();
+        OrderCursor after = OrderCursor.decode(cursor);
+        int user = Math.toIntExact(userId);
+
+        List<OrderInfoResponse> orders;
+        boolean hasNext;
+        if (useSummary()) {
+            Specification<OrderSummary> spec = OrderHistoryService.<OrderSummary>historySpec(user, status, startDate, endDate)
+                    .and(seekSpec("orderId", after, ascending));
+            List<OrderSummary> rows = orderSummaryRepository.<OrderSummary, List<OrderSummary>>findBy(spec, query -> query
+                    .sortBy(seekSort("orderId", ascending))
+                    .limit(size + 1) // 다음 페이지 존재 여부 확인용 1건 추가
+                    .all());
+            hasNext = rows.size() > size;
+            orders = rows.stream().limit(size).map(this::toResponse).toList();
+        } else {
+            Specification<Order> spec = OrderHistoryService.<Order>historySpec(user, status, startDate, endDate)
+                    .and(seekSpec("id", after, ascending));
+            List<Order> rows = orderRepository.<Order, List<Order>>findBy(spec, query -> query
+                    .sortBy(seekSort("id", ascending))
+                    .limit(size + 1)
+                    .all());
+            hasNext = rows.size() > size;
+            orders = toResponses(rows.subList(0, Math.min(size, rows.size())));
+        }
+
+        String nextCursor = null;
+        if (hasNext && !orders.isEmpty()) {
+            OrderInfoResponse last = orders.get(orders.size() - 1);
+            nextCursor = new OrderCursor(last.getOrderDate().getTime(), last.getOrderId().intValue()).encode();
+        }
+        return OrderHistoryCursorPage.builder()
+                .orders(orders)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // 커서 다음 위치부터 조회 (내림차순: (날짜, ID) < 커서, 오름차순: (날짜, ID) > 커서)
+    private static <T> Specification<T> seekSpec(String idField, OrderCursor after, boolean ascending) {
+        return (root, query, cb) -> {
+            if (after == null) {
+                return null;
+            }
+            Path<Date> orderDate = root.get("orderDate");
+            Path<Integer> id = root.get(idField);
+            Date cursorDate = new Date(after.orderDateMillis());
+            return ascending
+                    ? cb.or(cb.greaterThan(orderDate, cursorDate),
+                            cb.and(cb.equal(orderDate, cursorDate), cb.greaterThan(id, after.id())))
+                    : cb.or(cb.lessThan(orderDate, cursorDate),
+                            cb.and(cb.equal(orderDate, cursorDate), cb.lessThan(id, after.id())));
+        };
+    }
+
+    private static Sort seekSort(String idField, boolean ascending) {
+        Sort.Direction sortDirection = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+        return Sort.by(sortDirection, "orderDate").and(Sort.by(sortDirection, idField));
+    }
+
+    // 사용자, 주문 상태, 날짜 범위 조건 (주문/주문 내역 테이블 공통 필드)
+    private static <T> Specification<T> historySpec(int userId, String status, Date startDate, Date endDate) {
+        return (root, query, cb) -> {
+            List<jakarta.persistence.criteria.Predicate> predicates = new ArrayList<>();
+
+            // 사용자 ID 조건
+            predicates.add(cb.equal(root.get("userId"), userId));
+
+            // 주문 상태 필터
+            if (StringUtils.hasText(status)) {
+                predicates.add(cb.equal(root.get("status"), OrderStatus.valueOf(status)));
+            }
+
+            // 날짜 범위 필터
+            if (startDate != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("orderDate"), startDate));
+            }
+            if (endDate != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("orderDate"), endDate));
+            }
+
+            return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
+        };
+    }
+
+    private static String summarySortField(String sort) {
+        if ("id".equals(sort)) {
+            return "orderId";
+        }
+        return StringUtils.hasText(sort) && SUMMARY_SORT_FIELDS.contains(sort) ? sort : "orderDate";
+    }
+
+    // 주문 목록을 응답으로 변환 (주문 항목과 상품 이름은 각각 한 번에 조회)
+    public List<OrderInfoResponse> toResponses(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, List<OrderItem>> itemsByOrder = orderItemRepository.findByOrderIdIn(
+                        orders.stream().map(Order::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(OrderItem::getOrderId));
+
+        Map<Long, String> productNames = productCatalogCache.getProductNames(itemsByOrder.values().stream()
+                .flatMap(List::stream)
+                .map(item -> (long) item.getProductId())
+                .distinct()
+                .toList());
+
+        return orders.stream()
+                .map(order -> OrderInfoResponse.builder()
+                        .orderId((long) order.getId())
+                        .userId((long) order.getUserId())
+                        .orderDate(order.getOrderDate())
+                        .totalPrice((long) order.getTotalPrice())
+                        .status(order.getStatus())
+                        .paymentStatus(order.getPaymentStatus())
+                        .orderItems(itemsByOrder.getOrDefault(order.getId(), List.of()).stream()
+                                .map(item -> OrderItemResponse.builder()
+                                        .productId((long) item.getProductId())
+                                        .productName(productNames.getOrDefault((long) item.getProductId(), ""))
+                                        .quantity((long) item.getQuantity())
+                                        .price((long) item.getPrice())
+                                        .build())
+                                .collect(Collectors.toList()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private OrderInfoResponse toResponse(OrderSummary summary) {
+        return OrderInfoResponse.builder()
+                .orderId((long) summary.getOrderId())
+                .userId((long) summary.getUserId())
+                .orderDate(summary.getOrderDate())
+                .totalPrice(summary.getTotalPrice())
+                .status(summary.getStatus())
+                .paymentStatus(summary.getPaymentStatus())
+                .orderItems(readItems(summary.getItems()))
+                .build();
+    }
+
+    // 주문 이벤트를 주문 내역 테이블에 반영 (처음 보는 주문은 주문 테이블에서 만들고, 커밋 전이면 이벤트 내용으로 생성)
+    @Transactional
+    public void applyEvent(OrderEvent event) {
+        int orderId = Math.toIntExact(event.getOrderId());
+        OrderSummary summary = orderSummaryRepository.findById(orderId)
+                .or(() -> buildFromOrder(orderId))
+                .orElseGet(() -> OrderSummary.builder()
+                        .orderId(orderId)
+                        .userId(Math.toIntExact(event.getUserId()))
+                        .build());
+
+        applyEventFields(summary, event);
+        summary.setUpdatedDate(new Date());
+        orderSummaryRepository.save(summary);
+    }
+
+    private Optional<OrderSummary> buildFromOrder(int orderId) {
+        return orderRepository.findById(orderId)
+                .map(order -> toSummary(order, toResponses(List.of(order)).get(0)));
+    }
+
+    // 주문 ID 순으로 한 묶음을 읽어 주문 내역 행이 없는 주문만 생성 (처리한 마지막 주문 ID 반환, 더 없으면 -1)
+    @Transactional
+    public int backfillBatch(int afterOrderId, int batchSize) {
+        List<Order> orders = orderRepository.findByIdGreaterThan(afterOrderId,
+                PageRequest.of(0, batchSize, Sort.by(Sort.Direction.ASC, "id")));
+        if (orders.isEmpty()) {
+            return -1;
+        }
+
+        Set<Integer> existing = orderSummaryRepository.findAllById(orders.stream().map(Order::getId).toList())
+                .stream()
+                .map(OrderSummary::getOrderId)
+                .collect(Collectors.toSet());
+        List<Order> missing = orders.stream()
+                .filter(order -> !existing.contains(order.getId()))
+                .toList();
+        if (!missing.isEmpty()) {
+            List<OrderInfoResponse> responses = toResponses(missing);
+            Date now = new Date();
+            List<OrderSummary> summaries = new ArrayList<>(missing.size());
+            for (int i = 0; i < missing.size(); i++) {
+                OrderSummary summary = toSummary(missing.get(i), responses.get(i));
+                summary.setUpdatedDate(now);
+                summaries.add(summary);
+            }
+            orderSummaryRepository.saveAll(summaries);
+        }
+        return orders.get(orders.size() - 1).getId();
+    }
+
+    private OrderSummary toSummary(Order order, OrderInfoResponse response) {
+        return OrderSummary.builder()
+                .orderId(order.getId())
+                .userId(order.getUserId())
+                .orderDate(order.getOrderDate())
+                .totalPrice(order.getTotalPrice())
+                .status(order.getStatus())
+                .paymentStatus(order.getPaymentStatus())
+                .items(writeItems(response.getOrderItems()))
+                .build();
+    }
+
+    private void applyEventFields(OrderSummary summary, OrderEvent event) {
+        if (event.getOrderDate() != null) {
+            summary.setOrderDate(event.getOrderDate());
+        }
+        if (event.getOrderStatus() != null) {
+            summary.setStatus(event.getOrderStatus());
+        }
+        if (event.getPaymentStatus() != null) {
+            summary.setPaymentStatus(event.getPaymentStatus());
+        }
+        if (event.getTotalAmount() != null) {
+            summary.setTotalPrice(event.getTotalAmount());
+        }
+        if (event.getItems() == null || event.getItems().isEmpty()) {
+            return;
+        }
+
+        // 항목별로 이벤트가 오는 경우도 있으므로 상품 ID 기준으로 병합 (재전달 시에도 같은 결과)
+        Map<Long, OrderItemResponse> items = new LinkedHashMap<>();
+        readItems(summary.getItems()).forEach(item -> items.put(item.getProductId(), item));
+        Map<Long, String> productNames = productCatalogCache.getProductNames(event.getItems().stream()
+                .map(OrderItemEvent::getProductId)
+                .distinct()
+                .toList());
+        for (OrderItemEvent item : event.getItems()) {
+            items.put(item.getProductId(), OrderItemResponse.builder()
+                    .productId(item.getProductId())
+                    .productName(productNames.getOrDefault(item.getProductId(), ""))
+                    .quantity(item.getQuantity())
+                    .price(item.getPrice())
+                    .build());
+        }
+        summary.setItems(writeItems(new ArrayList<>(items.values())));
+    }
+
+    // 다음 페이지 커서 (주문 날짜와 주문 ID를 담은 불투명 토큰)
+    private record OrderCursor(long orderDateMillis, int id) {
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((orderDateMillis + ":" + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        static OrderCursor decode(String token) {
+            if (!StringUtils.hasText(token)) {
+                return null;
+            }
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+                return new OrderCursor(Long.parseLong(parts[0]), Integer.parseInt(parts[1]));
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                throw new BusinessRuntimeException("유효하지 않은 커서입니다.");
+            }
+        }
+    }
+
+    private List<OrderItemResponse> readItems(String json) {
+        if (!StringUtils.hasText(json)) {
+            return new ArrayList<>();
+        }
+        try {
+            return objectMapper.readValue(json, ITEM_LIST_TYPE);
+        } catch (JsonProcessingException e) {
+            log.error("주문 내역 항목 변환 실패", e);
+            return new ArrayList<>();
+        }
+    }
+
+    private String writeItems(List<OrderItemResponse> items) {
+        try {
+            return objectMapper.writeValueAsString(items);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 내역 항목 변환 실패", e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.doosan.orderservice.service;
+
+import com.doosan.orderservice.entity.OrderItem;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// 주문 항목 키 할당 테이블의 다음 값을 기존 최대 ID 이후로 올림 (IDENTITY로 저장된 기존 행과 충돌 방지)
+// 스키마를 만드는 EntityManagerFactory 이후, 웹 서버와 Kafka 리스너가 시작되기 전(빈 초기화 중)에 실행하고 실패하면 기동 중단
+// GREATEST로 값을 올리기만 하므로 이미 실행 중인 다른 인스턴스가 할당한 범위를 되돌리지 않음
+@Component
+@DependsOn("entityManagerFactory") // 키 할당 테이블 생성 이후 실행
+@RequiredArgsConstructor
+@Log4j2
+public class OrderItemIdSeeder {
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_ROW_SQL =
+            "INSERT IGNORE INTO id_generator (id_name, next_val) VALUES ('order_item', 0)";
+
+    private static final String SEED_SQL =
+            "UPDATE id_generator SET next_val = GREATEST(next_val, " +
+            "(SELECT COALESCE(MAX(id), 0) FROM `orderItem`) + ?) " +
+            "WHERE id_name = 'order_item'";
+
+    @PostConstruct
+    public void seed() {
+        try {
+            jdbcTemplate.update(INSERT_ROW_SQL);
+            jdbcTemplate.update(SEED_SQL, OrderItem.ID_ALLOCATION_SIZE);
+            Long nextVal = jdbcTemplate.queryForObject(
+                    "SELECT next_val FROM id_generator WHERE id_name = 'order_item'", Long.class);
+            log.info("주문 항목 키 할당 초기값 설정 완료 - next_val: {}", nextVal);
+        } catch (Exception e) {
+            throw new IllegalStateException("주문 항목 키 할당 초기값 설정 실패 (id_generator 테이블 확인 필요)", e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.doosan.orderservice.service;
+
+import com.doosan.common.dto.ResponseDto;
+import com.doosan.common.utils.ResponseBodyCache;
+import com.doosan.orderservice.dto.OrderInfoResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Supplier;
+
+// 주문 조회 응답 캐시 (성공 응답을 직렬화된 JSON 바이트와 ETag로 저장, If-None-Match가 같으면 304 응답)
+// 주문 상태가 바뀌는 곳에서 해당 주문을 제거하고, 다른 인스턴스의 변경은 유지 시간 안에 반영
+@Service
+@RequiredArgsConstructor
+public class OrderResponseCache {
+    private final ObjectMapper objectMapper;
+
+    @Value("${order.response-cache.enabled:false}")
+    private boolean enabled; // 비활성화 시 매번 조회 후 직렬화
+
+    @Value("${order.response-cache.ttl-ms:5000}")
+    private long ttlMillis; // 응답 유지 시간
+
+    @Value("${order.response-cache.max-size:10000}")
+    private int maxSize; // 최대 저장 응답 수
+
+    private ResponseBodyCache orderInfos;
+
+    @PostConstruct
+    public void init() {
+        orderInfos = new ResponseBodyCache(objectMapper, maxSize, ttlMillis);
+    }
+
+    public ResponseEntity<?> getOrderInfo(Long orderId, String ifNoneMatch,
+                                          Supplier<ResponseEntity<ResponseDto<OrderInfoResponse>>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return orderInfos.get(String.valueOf(orderId), ifNoneMatch, loader);
+    }
+
+    public void evict(int orderId) {
+        orderInfos.evict(String.valueOf(orderId));
+    }
+}
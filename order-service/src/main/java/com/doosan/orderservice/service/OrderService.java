@@ -4,6 +4,7 @@ import com.doosan.common.dto.ResponseDto;
 import com.doosan.common.dto.order.CreateOrderReqDto;
 import com.doosan.common.exception.BusinessRuntimeException;
 import com.doosan.orderservice.dto.CreateOrderResDto;
+import com.doosan.orderservice.dto.OrderHistoryCursorPage;
 import com.doosan.orderservice.dto.OrderInfoResponse;
 import com.doosan.orderservice.dto.OrderItemResponse;
 import com.doosan.orderservice.dto.OrderStatusUpdateRequest;
@@ -11,6 +12,8 @@ import com.doosan.orderservice.entity.Order;
 import com.doosan.orderservice.entity.OrderItem;
 import com.doosan.orderservice.entity.OrderStatus;
 import com.doosan.orderservice.entity.PaymentStatus;
+import com.doosan.orderservice.model.ProductPriceTable;
+import com.doosan.orderservice.model.StockReservationStatus;
 import com.doosan.orderservice.repository.OrderItemRepository;
 import com.doosan.orderservice.repository.OrderRepository;
 import com.doosan.orderservice.repository.WishListRepository;
@@ -20,23 +23,20 @@ import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.scheduler.Scheduler;
 
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -53,13 +53,34 @@ public class OrderService {
     private final ExecutorService executorService;
     private final OrderEventService orderEventService;
     private final ReactiveStockEventService reactiveStockEventService;
+    private final StockAdmissionGate stockAdmissionGate;
+    private final StockWriteBehindService stockWriteBehindService;
+    private final OrderAssemblyService orderAssemblyService;
+    private final ProductPriceResolver productPriceResolver;
+    private final OrderHistoryService orderHistoryService;
+    private final ProductCatalogCache productCatalogCache;
+    private final OrderResponseCache orderResponseCache;
+    private final Scheduler blockingScheduler; // 블로킹 조회 실행 스케줄러 (ExecutorConfig)
+
+    @Value("${order.fast-path.enabled:false}")
+    private boolean fastPathEnabled; // 주문 조립 빠른 경로 사용 여부 (가격 일괄 조회, INSERT만 실행)
 
     // 주문 생성
     @Transactional
     public CreateOrderResDto createOrder(int userId, List<CreateOrderReqDto> orderItems) {
+        for (CreateOrderReqDto item : orderItems) {
+            if (item.getQuantity() == null || item.getQuantity() <= 0) {
+                throw new BusinessRuntimeException(
+                        String.format("상품 ID %d의 주문 수량은 1 이상이어야 합니다.", item.getProductId()));
+            }
+        }
         try {
+            if (fastPathEnabled) {
+                return orderAssemblyService.assemble(userId, orderItems);
+            }
+
             Order order = createAndSaveOrder(userId);
-            int totalPrice = calculateTotalPrice(order, orderItems);
+            int totalPrice = calculateTotalPrice(order, orderItems, false);
             updateOrderTotalPrice(order, totalPrice);
             return new CreateOrderResDto(order.getId(), userId, order.getOrderDate(), totalPrice);
         } catch (DataAccessException e) {
@@ -96,6 +117,8 @@ public class OrderService {
                         
                         order.setStatus(OrderStatus.CANCEL_COMPLETE);
                         orderRepository.save(order);
+                        orderEventService.publishOrderStatusChangedEvent(order);
+                        orderResponseCache.evict(order.getId());
                         
                         return ResponseEntity.ok(
                             ResponseDto.<Void>builder()
@@ -106,7 +129,7 @@ public class OrderService {
                     })
                     .orElseThrow(() -> new BusinessRuntimeException("주문을 찾을 수 없습니다."));
         })
-        .subscribeOn(Schedulers.boundedElastic())
+        .subscribeOn(blockingScheduler)
         .onErrorResume(BusinessRuntimeException.class, 
             e -> Mono.just(ResponseEntity.badRequest()
                 .body(ResponseDto.<Void>builder()
@@ -140,6 +163,8 @@ public class OrderService {
             order.setStatus(OrderStatus.RETURN_REQUEST);
             order.setReturnRequestDate(new Date());
             orderRepository.save(order);
+            orderEventService.publishOrderStatusChangedEvent(order);
+            orderResponseCache.evict(order.getId());
 
             return ResponseEntity.ok(
                     ResponseDto.<Void>builder()
@@ -148,7 +173,7 @@ public class OrderService {
                             .build()
             );
         })
-        .subscribeOn(Schedulers.boundedElastic())
+        .subscribeOn(blockingScheduler)
         .onErrorResume(BusinessRuntimeException.class, 
             e -> Mono.just(ResponseEntity.badRequest()
                 .body(ResponseDto.<Void>builder()
@@ -192,6 +217,8 @@ public class OrderService {
 
             order.setStatus(newStatus);
             orderRepository.save(order);
+            orderEventService.publishOrderStatusChangedEvent(order);
+            orderResponseCache.evict(order.getId());
 
             return ResponseEntity.ok(
                     ResponseDto.<Void>builder()
@@ -218,14 +245,35 @@ public class OrderService {
         return orderRepository.save(order);
     }
 
-    private int calculateTotalPrice(Order order, List<CreateOrderReqDto> requests) {
+    // 주문 항목을 순서대로 처리하고 총 가격 반환
+    // 실패 시 재고 보상은 여기서만 처리 (처리한 항목의 상품 테이블 차감 복구, 예약한 Redis 재고와 구매 수량 반환)
+    // 결제 완료 이벤트는 모든 항목이 성공한 뒤에만 발행하고, 결제 실패 이벤트는 재고를 다시 복구하지 않도록 항목 없이 발행
+    private int calculateTotalPrice(Order order, List<CreateOrderReqDto> requests, boolean stockReserved) {
         if (requests.isEmpty()) {
             throw new BusinessRuntimeException("주문 항목이 없어 가격을 계산할 수 없습니다.");
         }
         
-        return requests.stream()
-            .mapToInt(item -> processOrderItem(order.getId(), item))
-            .sum();
+        // 주문의 모든 상품 가격을 한 번에 조회
+        ProductPriceTable prices = productPriceResolver.resolve(requests);
+        List<OrderItem> orderItems = new ArrayList<>();
+        int totalPrice = 0;
+        for (CreateOrderReqDto request : requests) {
+            try {
+                OrderItem orderItem = processOrderItem(order.getId(), request, prices);
+                orderItems.add(orderItem);
+                totalPrice += orderItem.getPrice();
+            } catch (RuntimeException e) {
+                compensateOrderItems(order, requests, orderItems.size(), stockReserved);
+                throw e;
+            }
+        }
+
+        Order completedOrder = orderRepository.findById(order.getId())
+                .orElseThrow(() -> new BusinessRuntimeException("주문을 찾을 수 없습니다."));
+        for (OrderItem orderItem : orderItems) {
+            orderEventService.publishPaymentCompletedEvent(completedOrder, List.of(orderItem));
+        }
+        return totalPrice;
     }
 
     private void updateOrderTotalPrice(Order order, int totalPrice) {
@@ -233,19 +281,15 @@ public class OrderService {
         orderRepository.save(order);
     }
 
-    private int processOrderItem(int orderId, CreateOrderReqDto item) {
-        OrderItem orderItem = null;
-        int itemTotalPrice = calculateItemPrice(item.getProductId(), item.getQuantity());
+    // 상품 테이블 재고 차감 후 주문 항목 저장 (실패 시 이 항목의 상품 테이블 차감만 되돌림)
+    private OrderItem processOrderItem(int orderId, CreateOrderReqDto item, ProductPriceTable prices) {
+        int itemTotalPrice = calculateItemPrice(prices, item.getProductId(), item.getQuantity());
 
+        // ProductService 재고 차감 (write-behind 모드면 변경분만 기록하고 비동기 반영)
+        applyProductStock(item.getProductId(), -item.getQuantity());
         try {
-            // ProductService 재고 차감
-            productService.updateStock(CreateOrderReqDto.builder()
-                    .productId(item.getProductId())
-                    .quantity(-item.getQuantity())
-                    .build());
-
             // 주문 아이템 생성
-            orderItem = OrderItem.builder()
+            OrderItem orderItem = OrderItem.builder()
                     .orderId(orderId)
                     .productId(item.getProductId().intValue())
                     .quantity(item.getQuantity().intValue())
@@ -262,32 +306,50 @@ public class OrderService {
             order.setTotalPrice(order.getTotalPrice() + itemTotalPrice);
             orderRepository.save(order);
 
-            orderEventService.publishPaymentCompletedEvent(order, List.of(orderItem));
+            return orderItem;
+        } catch (RuntimeException e) {
+            applyProductStock(item.getProductId(), item.getQuantity());
+            throw e;
+        }
+    }
 
-            return itemTotalPrice;
-        } catch (Exception e) {
-            // 실패시 Redis 재고 복구 및 결제 실패 상태로 변경
-            reactiveStockService.restoreStock(item.getProductId(), item.getQuantity());
-            Order order = orderRepository.findById(orderId)
-                    .orElseThrow(() -> new BusinessRuntimeException("주문을 찾을 수 없습니다."));
-            order.setPaymentStatus(PaymentStatus.PAYMENT_FAILED);
-            orderRepository.save(order);
-            
-            // 결제 실패 이벤트 발행
-            if (orderItem != null) {
-                orderEventService.publishPaymentFailedEvent(order, List.of(orderItem));
+    // 주문 실패 보상 (앞서 처리한 항목의 상품 테이블 차감 복구, 예약한 경우 전체 항목의 Redis 재고와 구매 수량 반환)
+    private void compensateOrderItems(Order order, List<CreateOrderReqDto> requests, int processedCount, boolean stockReserved) {
+        for (int i = 0; i < processedCount; i++) {
+            CreateOrderReqDto request = requests.get(i);
+            applyProductStock(request.getProductId(), request.getQuantity());
+        }
+        if (stockReserved) {
+            for (CreateOrderReqDto request : requests) {
+                reactiveStockService.restoreStock(request.getProductId(), request.getQuantity(), order.getUserId()).block();
             }
-            throw e;
         }
+
+        Order failedOrder = orderRepository.findById(order.getId())
+                .orElseThrow(() -> new BusinessRuntimeException("주문을 찾을 수 없습니다."));
+        failedOrder.setPaymentStatus(PaymentStatus.PAYMENT_FAILED);
+        orderRepository.save(failedOrder);
+        orderResponseCache.evict(order.getId());
+
+        // 결제 실패 이벤트 발행 (재고는 위에서 복구했으므로 항목 없이 발행)
+        orderEventService.publishPaymentFailedEvent(failedOrder, List.of());
     }
 
-    private OrderItem createAndSaveOrderItem(int orderId, CreateOrderReqDto item) {
-        // 상품 가격 조회
-        ResponseDto<ProductResponse> response = productService.getProduct(item.getProductId()).getBody();
-        int price = 0;
-        if (response != null && response.getData() != null) {
-            price = Math.toIntExact(response.getData().getPrice());
+    // 상품 테이블 재고 변경 (write-behind 모드면 변경분 발행 결과까지 대기)
+    private void applyProductStock(Long productId, Long delta) {
+        if (stockWriteBehindService.isEnabled()) {
+            stockWriteBehindService.append(productId, delta).block();
+        } else {
+            productService.updateStock(CreateOrderReqDto.builder()
+                    .productId(productId)
+                    .quantity(delta)
+                    .build());
         }
+    }
+
+    private OrderItem createAndSaveOrderItem(int orderId, CreateOrderReqDto item, ProductPriceTable prices) {
+        // 일괄 조회한 가격표에서 상품 가격 조회
+        int price = prices.contains(item.getProductId()) ? Math.toIntExact(prices.priceOf(item.getProductId())) : 0;
 
         OrderItem orderItem = new OrderItem();
         orderItem.setOrderId(orderId);
@@ -297,10 +359,9 @@ public class OrderService {
         return orderItemRepository.save(orderItem);
     }
 
-    private int calculateItemPrice(Long productId, Long quantity) {
-        ResponseDto<ProductResponse> response = productService.getProduct(productId).getBody();
-        if (response != null && response.getData() != null) {
-            return (int) (response.getData().getPrice() * quantity.intValue());
+    private int calculateItemPrice(ProductPriceTable prices, Long productId, Long quantity) {
+        if (prices.contains(productId)) {
+            return (int) prices.lineTotal(productId, quantity.intValue());
         }
         throw new BusinessRuntimeException("상품 가격을 조회할 수 없습니다.");
     }
@@ -340,35 +401,48 @@ public class OrderService {
         return order.getPaymentStatus();
     }
     public Mono<CreateOrderResDto> createReactiveOrder(int userId, List<CreateOrderReqDto> orderRequests) {
-        return Flux.fromIterable(orderRequests)
-                .doOnNext(request ->
-                        log.info("##### 주문 요청 처리 시작 - 상품 ID: {}, 수량: {}",
-                                request.getProductId(), request.getQuantity())
-                )
-                .flatMap(request ->
-                        reactiveStockService.checkAndReduceStock(
-                                        request.getProductId(),
-                                        Long.valueOf(request.getQuantity())
-                                )
-                                .doOnNext(success -> {
-                                    if (!success) {
-                                        log.error("##### 재고 확인 실패 - 상품 ID: {}, 수량: {}",
-                                                request.getProductId(), request.getQuantity());
-                                        throw new BusinessRuntimeException(
-                                                String.format("상품 ID %d의 재고가 부족합니다.", request.getProductId()));
-                                    }
-                                })
-                                .thenReturn(request)
-                )
-                .collectList()
+        // 0 이하 수량이나 품절 상품이 포함되면 재고 예약 전에 즉시 거절
+        for (CreateOrderReqDto request : orderRequests) {
+            if (request.getQuantity() == null || request.getQuantity() <= 0) {
+                return Mono.error(new BusinessRuntimeException(
+                        String.format("상품 ID %d의 주문 수량은 1 이상이어야 합니다.", request.getProductId())));
+            }
+            if (stockAdmissionGate.isSoldOut(request.getProductId())) {
+                return Mono.error(new BusinessRuntimeException(
+                        String.format("상품 ID %d는 품절되었습니다.", request.getProductId())));
+            }
+        }
+
+        // 주문의 모든 상품 재고를 한 번에 예약 (일부만 차감되는 경우 없음)
+        return reactiveStockService.reserveAll(orderRequests, userId)
+                .doOnNext(result -> {
+                    if (!result.isReserved()) {
+                        log.error("##### 재고 확인 실패 - 상품 ID: {}, 결과: {}",
+                                result.getFailedProductId(), result.getStatus());
+                        if (result.getStatus() == StockReservationStatus.LIMIT_EXCEEDED) {
+                            throw new BusinessRuntimeException(
+                                    String.format("상품 ID %d의 1인당 구매 한도를 초과했습니다.", result.getFailedProductId()));
+                        }
+                        throw new BusinessRuntimeException(
+                                String.format("상품 ID %d의 재고가 부족합니다.", result.getFailedProductId()));
+                    }
+                })
+                .thenReturn(orderRequests)
                 .doOnNext(validatedRequests -> {
                     if (validatedRequests.isEmpty()) {
                         throw new BusinessRuntimeException("유효한 주문 요청이 없습니다.");
                     }
                     log.info("##### 유효성 검사가 완료된 주문 요청: {}", validatedRequests);
                 })
-                .flatMap(validatedRequests ->
-                        Mono.fromCallable(() -> {
+                .flatMap(validatedRequests -> fastPathEnabled
+                        ? Mono.fromCallable(() -> orderAssemblyService.assemble(userId, validatedRequests))
+                            .subscribeOn(blockingScheduler) // JDBC 트랜잭션은 Redis 클라이언트 스레드가 아닌 블로킹 스케줄러에서 실행
+                            // 주문 저장 실패 시 예약한 재고와 구매 수량 반환
+                            .onErrorResume(error -> Flux.fromIterable(validatedRequests)
+                                .concatMap(request -> reactiveStockService.restoreStock(
+                                        request.getProductId(), request.getQuantity(), userId))
+                                .then(Mono.<CreateOrderResDto>error(error)))
+                        : Mono.fromCallable(() -> {
                             log.info("##### 주문 생성 시작 - 사용자 ID: {}", userId);
 
                             // 주문 생성 및 저장
@@ -378,7 +452,7 @@ public class OrderService {
 
                             // 총 가격 계산
                             log.info("##### 총 가격 계산 시작 - 주문 ID: {}", order.getId());
-                            int totalPrice = calculateTotalPrice(order, validatedRequests);
+                            int totalPrice = calculateTotalPrice(order, validatedRequests, true);
                             log.info("##### 총 가격 계산 완료 - 주문 ID: {}, 총 가격: {}",
                                     order.getId(), totalPrice);
 
@@ -399,6 +473,7 @@ public class OrderService {
 
                             return response;
                         })
+                        .subscribeOn(blockingScheduler) // 재고 복구 대기(block)가 Redis 클라이언트 스레드에서 실행되지 않도록 함
                 );
     }
 
@@ -415,21 +490,16 @@ public class OrderService {
         }
 
         List<OrderItem> orderItems = orderItemRepository.findByOrderId(Math.toIntExact(orderId));
+        Map<Long, String> productNames = productCatalogCache.getProductNames(orderItems.stream()
+                .map(item -> (long) item.getProductId())
+                .toList());
         List<OrderItemResponse> orderItemResponses = orderItems.stream()
-                .map(item -> {
-                    ResponseDto<ProductResponse> productResponse = productService.getProduct((long) item.getProductId()).getBody();
-                    String productName = "";
-                    if (productResponse != null && productResponse.getData() != null) {
-                        productName = productResponse.getData().getName();
-                    }
-
-                    return OrderItemResponse.builder()
-                            .productId((long) item.getProductId())
-                            .productName(productName)
-                            .quantity((long) item.getQuantity())
-                            .price((long) item.getPrice())
-                            .build();
-                })
+                .map(item -> OrderItemResponse.builder()
+                        .productId((long) item.getProductId())
+                        .productName(productNames.getOrDefault((long) item.getProductId(), ""))
+                        .quantity((long) item.getQuantity())
+                        .price((long) item.getPrice())
+                        .build())
                 .collect(Collectors.toList());
 
         return OrderInfoResponse.builder()
@@ -443,70 +513,15 @@ public class OrderService {
                 .build();
     }
 
+    // 주문 내역 조회는 N+1 없는 조회 경로(또는 주문 내역 테이블)에서 처리
     public Page<OrderInfoResponse> getUserOrders(Long userId, Long page, Long size,
                                                  String sort, String direction, String status, Date startDate, Date endDate) {
+        return orderHistoryService.getUserOrders(userId, page, size, sort, direction, status, startDate, endDate);
+    }
 
-        // 정렬 조건 설정
-        Sort sortObj = Sort.by(Sort.Direction.fromString(direction),
-                StringUtils.hasText(sort) ? sort : "orderDate");
-
-        Pageable pageable = PageRequest.of(page.intValue(), size.intValue(), sortObj);
-
-        // 동적 쿼리 조건 생성
-        Specification<Order> spec = (root, query, cb) -> {
-            List<jakarta.persistence.criteria.Predicate> predicates = new ArrayList<>();
-
-            // 사용자 ID 조건
-            predicates.add(cb.equal(root.get("userId"), Math.toIntExact(userId)));
-
-            // 주문 상태 필터
-            if (StringUtils.hasText(status)) {
-                predicates.add(cb.equal(root.get("status"), OrderStatus.valueOf(status)));
-            }
-
-            // 날짜 범위 필터
-            if (startDate != null) {
-                predicates.add(cb.greaterThanOrEqualTo(root.get("orderDate"), startDate));
-            }
-            if (endDate != null) {
-                predicates.add(cb.lessThanOrEqualTo(root.get("orderDate"), endDate));
-            }
-
-            return cb.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
-        };
-
-        Page<Order> orders = orderRepository.findAll(spec, pageable);
-
-        return orders.map(order -> {
-            List<OrderItem> orderItems = orderItemRepository.findByOrderId(order.getId());
-            List<OrderItemResponse> orderItemResponses = orderItems.stream()
-                    .map(item -> {
-                        ResponseDto<ProductResponse> productResponse =
-                                productService.getProduct((long) item.getProductId()).getBody();
-                        String productName = "";
-                        if (productResponse != null && productResponse.getData() != null) {
-                            productName = productResponse.getData().getName();
-                        }
-
-                        return OrderItemResponse.builder()
-                                .productId((long) item.getProductId())
-                                .productName(productName)
-                                .quantity((long) item.getQuantity())
-                                .price((long) item.getPrice())
-                                .build();
-                    })
-                    .collect(Collectors.toList());
-
-            return OrderInfoResponse.builder()
-                    .orderId((long) order.getId())
-                    .userId((long) order.getUserId())
-                    .orderDate(order.getOrderDate())
-                    .totalPrice((long) order.getTotalPrice())
-                    .status(order.getStatus())
-                    .paymentStatus(order.getPaymentStatus())
-                    .orderItems(orderItemResponses)
-                    .build();
-        });
+    public OrderHistoryCursorPage getUserOrdersByCursor(Long userId, String cursor, int size, String direction,
+                                                        String status, Date startDate, Date endDate) {
+        return orderHistoryService.getUserOrdersByCursor(userId, cursor, size, direction, status, startDate, endDate);
     }
 
 }
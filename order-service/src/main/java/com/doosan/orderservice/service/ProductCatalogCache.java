@@ -0,0 +1,271 @@
+package com.doosan.orderservice.service;
+
+import com.doosan.orderservice.dto.ProductCacheMetrics;
+import com.doosan.productservice.dto.ProductResponse;
+import com.doosan.productservice.service.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 상품 정보 근접 캐시 (이름, 가격, 카테고리, 이미지 등 자주 바뀌지 않는 정보만 보관하고 재고 수량은 캐시하지 않음)
+// 로컬 LRU(최대 크기 + 유지 시간) → Redis 2차 캐시(선택) → 상품 서비스 일괄 조회 순으로 찾고, 상품 변경 이벤트로 제거
+// 가격은 화면 표시용이며 주문 결제 금액은 ProductPriceResolver가 상품 테이블에서 직접 조회
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ProductCatalogCache {
+    private final ProductService productService;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private static final String CACHE_KEY_PREFIX = "product:meta:";
+    private static final int SCAN_BATCH_SIZE = 500; // 전체 제거 시 SCAN 한 번에 가져오고 삭제할 키 수
+
+    @Value("${product.cache.enabled:false}")
+    private boolean enabled; // 비활성화 시 매번 상품 서비스에서 조회
+
+    @Value("${product.cache.max-size:10000}")
+    private int maxSize; // 로컬 캐시 최대 항목 수
+
+    @Value("${product.cache.ttl-ms:60000}")
+    private long ttlMillis; // 로컬 캐시 유지 시간 (변경 이벤트를 놓쳐도 이 시간 안에 최신 정보로 교체)
+
+    @Value("${product.cache.redis-enabled:false}")
+    private boolean redisEnabled; // 인스턴스 간 공유하는 Redis 2차 캐시 사용 여부
+
+    @Value("${product.cache.redis-ttl-ms:600000}")
+    private long redisTtlMillis; // Redis 2차 캐시 유지 시간
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong redisHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong(); // 무효화마다 증가 (조회 도중 무효화되면 조회 결과를 저장하지 않음)
+
+    // 접근 순서 LRU (최대 크기를 넘으면 가장 오래 사용하지 않은 항목 제거)
+    private final Map<Long, CachedProduct> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, CachedProduct> eldest) {
+            if (size() > maxSize) {
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    // 단일 상품 정보 (없는 상품이면 null)
+    public ProductResponse getProduct(Long productId) {
+        return getProducts(List.of(productId)).get(productId);
+    }
+
+    // 여러 상품 정보 (캐시에 없는 상품만 한 번의 일괄 조회로 가져옴, 없는 상품은 결과에서 제외)
+    public Map<Long, ProductResponse> getProducts(Collection<Long> productIds) {
+        List<Long> distinctIds = productIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (!enabled) {
+            return loadFromProductService(distinctIds);
+        }
+
+        Map<Long, ProductResponse> found = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            for (Long productId : distinctIds) {
+                CachedProduct cached = entries.get(productId);
+                if (cached == null) {
+                    missingIds.add(productId);
+                } else if (cached.expiresAt() <= now) {
+                    entries.remove(productId);
+                    expirations.incrementAndGet();
+                    missingIds.add(productId);
+                } else {
+                    found.put(productId, cached.product());
+                }
+            }
+        }
+        hits.addAndGet(found.size());
+        if (missingIds.isEmpty()) {
+            return found;
+        }
+
+        long loadGeneration = generation.get();
+        Map<Long, ProductResponse> loaded = new HashMap<>();
+        if (redisEnabled) {
+            loaded.putAll(readRedis(missingIds));
+            redisHits.addAndGet(loaded.size());
+        }
+
+        List<Long> remainingIds = missingIds.stream().filter(productId -> !loaded.containsKey(productId)).toList();
+        if (!remainingIds.isEmpty()) {
+            Map<Long, ProductResponse> fromProductService = loadFromProductService(remainingIds);
+            misses.addAndGet(remainingIds.size());
+            if (redisEnabled && generation.get() == loadGeneration) {
+                writeRedis(fromProductService);
+            }
+            loaded.putAll(fromProductService);
+        }
+
+        store(loaded, loadGeneration);
+        found.putAll(loaded);
+        return found;
+    }
+
+    // 여러 상품 이름
+    public Map<Long, String> getProductNames(Collection<Long> productIds) {
+        if (!enabled) {
+            return productService.getProductNames(productIds.stream().distinct().toList());
+        }
+        Map<Long, String> names = new HashMap<>();
+        getProducts(productIds).forEach((productId, product) -> {
+            if (product.getName() != null) {
+                names.put(productId, product.getName());
+            }
+        });
+        return names;
+    }
+
+    // 상품 변경 시 캐시 제거 (productId가 null이면 전체 제거)
+    public void invalidate(Long productId) {
+        generation.incrementAndGet();
+        invalidations.incrementAndGet();
+        synchronized (entries) {
+            if (productId == null) {
+                entries.clear();
+            } else {
+                entries.remove(productId);
+            }
+        }
+
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            if (productId == null) {
+                deleteAllRedis();
+            } else {
+                redisTemplate.delete(CACHE_KEY_PREFIX + productId);
+            }
+        } catch (Exception e) {
+            log.error("상품 캐시 Redis 제거 실패 - 상품: {}", productId, e);
+        }
+    }
+
+    public ProductCacheMetrics getMetrics() {
+        long hitCount = hits.get();
+        long redisHitCount = redisHits.get();
+        long lookups = hitCount + redisHitCount + misses.get();
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return ProductCacheMetrics.builder()
+                .enabled(enabled)
+                .redisEnabled(redisEnabled)
+                .size(size)
+                .maxSize(maxSize)
+                .hits(hitCount)
+                .redisHits(redisHitCount)
+                .misses(misses.get())
+                .hitRate(lookups == 0 ? 0 : (double) (hitCount + redisHitCount) / lookups)
+                .evictions(evictions.get())
+                .expirations(expirations.get())
+                .invalidations(invalidations.get())
+                .build();
+    }
+
+    private void store(Map<Long, ProductResponse> products, long loadGeneration) {
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        synchronized (entries) {
+            if (generation.get() != loadGeneration) {
+                return; // 조회 도중 변경된 상품이 있으면 이전 정보를 다시 넣지 않음
+            }
+            products.forEach((productId, product) -> entries.put(productId, new CachedProduct(product, expiresAt)));
+        }
+    }
+
+    private Map<Long, ProductResponse> loadFromProductService(List<Long> productIds) {
+        Map<Long, ProductResponse> products = new HashMap<>();
+        if (productIds.isEmpty()) {
+            return products;
+        }
+        productService.getProductsByIds(productIds)
+                .forEach(product -> products.put(product.getId(), metadataOf(product)));
+        return products;
+    }
+
+    private Map<Long, ProductResponse> readRedis(List<Long> productIds) {
+        Map<Long, ProductResponse> products = new HashMap<>();
+        try {
+            List<Object> values = redisTemplate.opsForValue().multiGet(
+                    productIds.stream().map(productId -> CACHE_KEY_PREFIX + productId).toList());
+            if (values == null) {
+                return products;
+            }
+            for (int i = 0; i < productIds.size(); i++) {
+                if (values.get(i) instanceof ProductResponse product) {
+                    products.put(productIds.get(i), product);
+                }
+            }
+        } catch (Exception e) {
+            log.error("상품 캐시 Redis 조회 실패 - 상품 서비스에서 조회", e);
+        }
+        return products;
+    }
+
+    // KEYS는 전체 키를 한 번에 훑어 Redis를 막으므로 SCAN으로 나눠 찾고 묶음 단위로 삭제
+    private void deleteAllRedis() {
+        ScanOptions options = ScanOptions.scanOptions().match(CACHE_KEY_PREFIX + "*").count(SCAN_BATCH_SIZE).build();
+        List<String> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= SCAN_BATCH_SIZE) {
+                    redisTemplate.delete(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            redisTemplate.delete(batch);
+        }
+    }
+
+    private void writeRedis(Map<Long, ProductResponse> products) {
+        try {
+            Duration ttl = Duration.ofMillis(redisTtlMillis);
+            products.forEach((productId, product) ->
+                    redisTemplate.opsForValue().set(CACHE_KEY_PREFIX + productId, product, ttl));
+        } catch (Exception e) {
+            log.error("상품 캐시 Redis 저장 실패", e);
+        }
+    }
+
+    // 재고 수량을 뺀 상품 정보 (캐시된 재고로 주문 판단이 바뀌지 않도록)
+    private static ProductResponse metadataOf(ProductResponse product) {
+        return ProductResponse.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .price(product.getPrice())
+                .description(product.getDescription())
+                .category(product.getCategory())
+                .imageUrl(product.getImageUrl())
+                .build();
+    }
+
+    private record CachedProduct(ProductResponse product, long expiresAt) {
+    }
+}
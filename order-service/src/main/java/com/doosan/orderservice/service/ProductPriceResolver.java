@@ -0,0 +1,34 @@
+package com.doosan.orderservice.service;
+
+import com.doosan.common.dto.ResponseDto;
+import com.doosan.common.dto.order.CreateOrderReqDto;
+import com.doosan.common.exception.BusinessRuntimeException;
+import com.doosan.orderservice.model.ProductPriceTable;
+import com.doosan.productservice.service.ProductService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// 주문 가격 계산용 가격 조회 (주문당 한 번의 일괄 조회로 모든 상품 가격을 가져옴)
+// 결제 금액에 쓰이므로 상품 정보 캐시를 거치지 않고 항상 상품 테이블에서 조회
+@Service
+@RequiredArgsConstructor
+public class ProductPriceResolver {
+    private final ProductService productService;
+
+    public ProductPriceTable resolve(List<CreateOrderReqDto> requests) {
+        return resolveProducts(requests.stream().map(CreateOrderReqDto::getProductId).toList());
+    }
+
+    public ProductPriceTable resolveProducts(Collection<Long> productIds) {
+        List<Long> distinctIds = productIds.stream().distinct().toList();
+        ResponseDto<Map<Long, Long>> response = productService.getBulkProductPrices(distinctIds).getBody();
+        if (response == null || response.getData() == null) {
+            throw new BusinessRuntimeException("상품 가격을 조회할 수 없습니다.");
+        }
+        return ProductPriceTable.of(response.getData());
+    }
+}
@@ -0,0 +1,137 @@
+package com.doosan.orderservice.service;
+
+import com.doosan.common.exception.BusinessRuntimeException;
+import com.doosan.orderservice.model.StockReservationResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// 상품별 1인당 구매 한도 (재고 카운터 옆에 저장하고 재고 차감 스크립트에서 함께 검사)
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class PurchaseLimitService {
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private static final String LIMIT_KEY_PREFIX = "product:limit:"; // 상품별 1인당 구매 한도
+    private static final String PURCHASED_KEY_PREFIX = "product:purchased:"; // 사용자별 구매 수량 (Hash)
+    private static final String LIMITED_PRODUCTS_KEY = "product:limit-products"; // 한도가 설정된 상품 (Set)
+
+    // 한도 설정 상품 목록 (샤드/임대 경로에서 한도 없는 상품의 추가 호출을 피하기 위함)
+    private final Set<Long> limitedProducts = ConcurrentHashMap.newKeySet();
+
+    // 한도 내에서 구매 수량 선점 (0: 한도 없음, 1: 선점, -3: 한도 초과, -4: 수량 오류), 재고 스크립트와 같은 규칙 사용
+    // 0 이하 수량은 HINCRBY로 구매 수량을 줄여 한도를 우회할 수 있으므로 한도 검사 전에 거절
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local quantity = tonumber(ARGV[2]) " +
+            "if not quantity or quantity <= 0 then return -4 end " +
+            "local limit = redis.call('GET', KEYS[1]) " +
+            "if not limit then return 0 end " +
+            "if tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0') + quantity > tonumber(limit) then return -3 end " +
+            "redis.call('HINCRBY', KEYS[2], ARGV[1], quantity) " +
+            "if redis.call('PTTL', KEYS[2]) == -1 then " +
+            "  local ttl = redis.call('PTTL', KEYS[1]) " +
+            "  if ttl > 0 then redis.call('PEXPIRE', KEYS[2], ttl) end " +
+            "end " +
+            "return 1",
+            Long.class);
+
+    // 주문 실패/취소 시 구매 수량 반환 (기록이 없거나 0 이하 수량이면 무시)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if (tonumber(ARGV[2]) or 0) <= 0 then return 0 end " +
+            "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then return 0 end " +
+            "local left = redis.call('HINCRBY', KEYS[1], ARGV[1], -tonumber(ARGV[2])) " +
+            "if left <= 0 then redis.call('HDEL', KEYS[1], ARGV[1]) end " +
+            "return 1",
+            Long.class);
+
+    public static String limitKey(Long productId) {
+        return LIMIT_KEY_PREFIX + productId;
+    }
+
+    public static String purchasedKey(Long productId) {
+        return PURCHASED_KEY_PREFIX + productId;
+    }
+
+    public boolean isLimited(Long productId) {
+        return limitedProducts.contains(productId);
+    }
+
+    // 다른 인스턴스에서 설정/해제한 한도 상품 목록 동기화
+    @Scheduled(fixedDelayString = "${stock.purchase-limit.refresh-interval-ms:5000}")
+    public void refreshLimitedProducts() {
+        reactiveRedisTemplate.opsForSet().members(LIMITED_PRODUCTS_KEY)
+                .map(Long::valueOf)
+                .collect(Collectors.toSet())
+                .doOnNext(productIds -> {
+                    limitedProducts.retainAll(productIds);
+                    limitedProducts.addAll(productIds);
+                })
+                .onErrorResume(error -> {
+                    log.error("구매 한도 상품 목록 동기화 실패", error);
+                    return Mono.empty();
+                })
+                .block();
+    }
+
+    // 구매 한도 설정 (이벤트 종료 시각에 한도와 구매 기록이 함께 만료)
+    public Mono<Boolean> setLimit(Long productId, long limit, Date expiresAt) {
+        Duration ttl = Duration.ofMillis(expiresAt.getTime() - System.currentTimeMillis());
+        if (limit < 1 || ttl.isNegative() || ttl.isZero()) {
+            return Mono.error(new BusinessRuntimeException("구매 한도는 1 이상, 만료 시각은 현재 이후여야 합니다."));
+        }
+
+        return reactiveRedisTemplate.opsForValue().set(limitKey(productId), String.valueOf(limit), ttl)
+                .flatMap(saved -> reactiveRedisTemplate.expire(purchasedKey(productId), ttl).thenReturn(saved))
+                .flatMap(saved -> reactiveRedisTemplate.opsForSet().add(LIMITED_PRODUCTS_KEY, String.valueOf(productId))
+                        .thenReturn(saved))
+                .doOnNext(saved -> limitedProducts.add(productId))
+                .doOnNext(saved -> log.info("구매 한도 설정 - 상품: {}, 한도: {}, 만료: {}", productId, limit, expiresAt));
+    }
+
+    // 구매 한도 해제 (구매 기록도 삭제)
+    public Mono<Long> removeLimit(Long productId) {
+        return reactiveRedisTemplate.opsForSet().remove(LIMITED_PRODUCTS_KEY, String.valueOf(productId))
+                .then(reactiveRedisTemplate.delete(limitKey(productId), purchasedKey(productId)))
+                .doOnNext(deleted -> limitedProducts.remove(productId));
+    }
+
+    // 재고 스크립트에 한도를 포함할 수 없는 경로(샤드/임대 재고)에서 사용
+    public Mono<Boolean> acquire(Long productId, Integer userId, Long quantity) {
+        if (quantity == null || quantity <= 0) {
+            return Mono.just(false);
+        }
+        if (userId == null || !isLimited(productId)) {
+            return Mono.just(true);
+        }
+        return reactiveRedisTemplate.execute(ACQUIRE_SCRIPT,
+                        List.of(limitKey(productId), purchasedKey(productId)),
+                        List.of(String.valueOf(userId), String.valueOf(quantity)))
+                .next()
+                .map(code -> code != StockReservationResult.LIMIT_EXCEEDED_CODE
+                        && code != StockReservationResult.INVALID_QUANTITY_CODE);
+    }
+
+    public Mono<Void> release(Long productId, Integer userId, Long quantity) {
+        if (userId == null || !isLimited(productId)) {
+            return Mono.empty();
+        }
+        return reactiveRedisTemplate.execute(RELEASE_SCRIPT,
+                        List.of(purchasedKey(productId)),
+                        List.of(String.valueOf(userId), String.valueOf(quantity)))
+                .then()
+                .doOnError(error ->
+                        log.error("구매 수량 반환 실패 - 상품: {}, 사용자: {}, 수량: {}", productId, userId, quantity, error));
+    }
+}
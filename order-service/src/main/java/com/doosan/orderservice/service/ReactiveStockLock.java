@@ -0,0 +1,161 @@
+package com.doosan.orderservice.service;
+
+import com.doosan.common.exception.BusinessRuntimeException;
+import com.doosan.orderservice.dto.StockLockMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.redisson.api.RLockReactive;
+import org.redisson.api.RedissonReactiveClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+// 리액티브 재고 락 (락 소유자를 스레드가 아닌 Reactor 컨텍스트의 ID로 지정하고, 작업이 끝나면 해제까지 구독)
+// 리액티브 체인은 스레드를 옮겨 다니므로 스레드 ID 기반 해제는 실패하고 임대 시간이 끝날 때까지 락이 남음
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class ReactiveStockLock {
+    private final RedissonReactiveClient redissonReactiveClient;
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private static final String LOCK_KEY_PREFIX = "stock:lock:"; // StockService의 동기 락과 같은 키
+    private static final String LOCK_ID_KEY = ReactiveStockLock.class.getName() + ".lockId";
+    public static final long LOCKED_CODE = -5L; // 락 없는 스크립트: 다른 요청이 락을 보유 중
+
+    @Value("${stock.lock.wait-ms:5000}")
+    private long waitMillis; // 락 대기 시간
+
+    @Value("${stock.lock.lease-ms:3000}")
+    private long leaseMillis; // 락 유지 시간 (해제 누락 시 안전장치)
+
+    @Value("${stock.lock.lease-free:false}")
+    private boolean leaseFree; // 락과 작업을 스크립트 하나로 실행 (락이 요청보다 오래 남지 않음)
+
+    @Value("${stock.lock.script-retry-ms:20}")
+    private long scriptRetryMillis; // 락 없는 스크립트 재시도 간격
+
+    private final AtomicLong acquired = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong releaseFailed = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong totalHoldNanos = new AtomicLong();
+    private final LongAccumulator maxHoldNanos = new LongAccumulator(Long::max, 0L);
+    private final AtomicLong scriptExecutions = new AtomicLong();
+    private final AtomicLong scriptRetries = new AtomicLong();
+
+    public boolean isLeaseFree() {
+        return leaseFree;
+    }
+
+    public static String lockName(Long productId) {
+        return LOCK_KEY_PREFIX + productId;
+    }
+
+    // 락 없는 스크립트 생성 (KEYS[1]은 락 키, 작업 키는 KEYS[2]부터 사용)
+    public static RedisScript<Long> guardedScript(String body) {
+        return new DefaultRedisScript<>(
+                "if redis.call('EXISTS', KEYS[1]) == 1 then return " + LOCKED_CODE + " end " + body,
+                Long.class);
+    }
+
+    // 상품 락을 잡고 작업 실행 (완료/오류/취소 모두 해제를 구독, 같은 체인 안의 중첩 호출은 같은 ID로 재진입)
+    public <T> Mono<T> withLock(Long productId, Mono<T> operation) {
+        return Mono.deferContextual(context -> {
+            long lockId = context.getOrDefault(LOCK_ID_KEY, ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE));
+            RLockReactive lock = redissonReactiveClient.getLock(lockName(productId));
+            long requestedAt = System.nanoTime();
+
+            return Mono.usingWhen(
+                    lock.tryLock(waitMillis, leaseMillis, TimeUnit.MILLISECONDS, lockId)
+                            .flatMap(locked -> {
+                                long now = System.nanoTime();
+                                if (!locked) {
+                                    failed.incrementAndGet();
+                                    return Mono.error(new BusinessRuntimeException("재고 락 획득 실패"));
+                                }
+                                acquired.incrementAndGet();
+                                totalWaitNanos.addAndGet(now - requestedAt);
+                                return Mono.just(now);
+                            }),
+                    acquiredAt -> operation.contextWrite(Context.of(LOCK_ID_KEY, lockId)),
+                    acquiredAt -> release(lock, productId, lockId, acquiredAt),
+                    (acquiredAt, error) -> release(lock, productId, lockId, acquiredAt),
+                    acquiredAt -> release(lock, productId, lockId, acquiredAt));
+        });
+    }
+
+    private Mono<Void> release(RLockReactive lock, Long productId, long lockId, long acquiredAt) {
+        long heldNanos = System.nanoTime() - acquiredAt;
+        totalHoldNanos.addAndGet(heldNanos);
+        maxHoldNanos.accumulate(heldNanos);
+        if (heldNanos > TimeUnit.MILLISECONDS.toNanos(leaseMillis)) {
+            log.warn("재고 락 보유 시간이 임대 시간을 초과 - 상품: {}, 보유: {}ms", productId, heldNanos / 1_000_000);
+        }
+
+        return lock.unlock(lockId)
+                .onErrorResume(error -> {
+                    releaseFailed.incrementAndGet();
+                    log.error("재고 락 해제 실패 - 상품: {}", productId, error);
+                    return Mono.empty();
+                });
+    }
+
+    // 락 없는 실행: 락 확인과 작업을 스크립트 하나로 처리하고, 다른 요청이 락을 보유 중이면 대기 시간 안에서 재시도
+    public Mono<Long> executeUnlocked(Long productId, RedisScript<Long> script, List<String> keys, List<String> args) {
+        List<String> scriptKeys = new ArrayList<>(keys.size() + 1);
+        scriptKeys.add(lockName(productId));
+        scriptKeys.addAll(keys);
+
+        long maxRetries = Math.max(1L, waitMillis / Math.max(1L, scriptRetryMillis));
+        return reactiveRedisTemplate.execute(script, scriptKeys, args)
+                .next()
+                .doOnNext(result -> scriptExecutions.incrementAndGet())
+                .flatMap(result -> {
+                    if (result == LOCKED_CODE) {
+                        scriptRetries.incrementAndGet();
+                        return Mono.error(new LockHeldException());
+                    }
+                    return Mono.just(result);
+                })
+                .retryWhen(Retry.fixedDelay(maxRetries, Duration.ofMillis(scriptRetryMillis))
+                        .filter(LockHeldException.class::isInstance)
+                        .onRetryExhaustedThrow((spec, signal) -> {
+                            failed.incrementAndGet();
+                            return new BusinessRuntimeException("재고 락 획득 실패");
+                        }));
+    }
+
+    public StockLockMetrics getMetrics() {
+        long acquiredCount = acquired.get();
+        return StockLockMetrics.builder()
+                .leaseFree(leaseFree)
+                .acquired(acquiredCount)
+                .failed(failed.get())
+                .releaseFailed(releaseFailed.get())
+                .averageWaitMillis(acquiredCount == 0 ? 0 : totalWaitNanos.get() / 1_000_000.0 / acquiredCount)
+                .averageHoldMillis(acquiredCount == 0 ? 0 : totalHoldNanos.get() / 1_000_000.0 / acquiredCount)
+                .maxHoldMillis(maxHoldNanos.get() / 1_000_000.0)
+                .scriptExecutions(scriptExecutions.get())
+                .scriptRetries(scriptRetries.get())
+                .build();
+    }
+
+    private static class LockHeldException extends RuntimeException {
+        LockHeldException() {
+            super(null, null, false, false);
+        }
+    }
+}
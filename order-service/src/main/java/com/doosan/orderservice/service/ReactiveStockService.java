@@ -1,103 +1,303 @@
 package com.doosan.orderservice.service;
 
-import com.doosan.common.exception.BusinessRuntimeException;
+import com.doosan.common.dto.order.CreateOrderReqDto;
+import com.doosan.orderservice.model.BatchStockReservationResult;
+import com.doosan.orderservice.model.StockJournalOp;
+import com.doosan.orderservice.model.StockReservationResult;
+import com.doosan.orderservice.model.StockReservationStatus;
 import com.doosan.productservice.service.ProductService;
 import com.doosan.orderservice.service.StockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.redisson.api.RedissonReactiveClient;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import java.util.concurrent.TimeUnit;
+import reactor.core.scheduler.Schedulers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Service
 @RequiredArgsConstructor
 @Log4j2
 public class ReactiveStockService {
     private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
-    private final RedissonReactiveClient redissonReactiveClient;
     private final ProductService productService;
     private final StockService stockService;
+    private final StockReservationService stockReservationService;
+    private final ShardedStockService shardedStockService;
+    private final StockAdmissionGate stockAdmissionGate;
+    private final StockLeaseService stockLeaseService;
+    private final StockWriteBehindService stockWriteBehindService;
+    private final PurchaseLimitService purchaseLimitService;
+    private final StockSequencerService stockSequencerService;
+    private final ReactiveStockLock reactiveStockLock;
     private static final String STOCK_KEY_PREFIX = "product:stock:";
 
-    // 재고 확인 및 차감
+    // 현재 재고 조회 (재고 키가 없으면 -2)
+    private static final RedisScript<Long> CONFIRM_SCRIPT = ReactiveStockLock.guardedScript(
+        "return tonumber(redis.call('GET', KEYS[2]) or '-2')");
+
+    // 재고 확인 및 차감 (락 없이 Redis 스크립트 한 번으로 처리)
     public Mono<Boolean> checkAndReduceStock(Long productId, Long quantity) {
-        String stockKey = STOCK_KEY_PREFIX + productId; // Redis 키
+        return checkAndReduceStock(productId, quantity, null);
+    }
 
-        // Redisson 락을 이용해 동시성 제어
-        return redissonReactiveClient.getLock("stock:lock:" + productId)
-            .tryLock(5, 3, TimeUnit.SECONDS) // 락 대기 시간 5초, 락 유지 시간 3초
-            .flatMap(locked -> {
-                if (!locked) {
-                    return Mono.just(false);
-                }
+    // 재고 확인 및 차감 (샤드 재고 상품은 사용자 ID로 시작 샤드를 선택)
+    public Mono<Boolean> checkAndReduceStock(Long productId, Long quantity, Integer userId) {
+        return reserveStock(productId, quantity, userId)
+            .map(status -> status == StockReservationStatus.RESERVED);
+    }
+
+    // 재고 확인 및 차감 후 결과 상태 반환 (재고 부족과 구매 한도 초과를 구분)
+    private Mono<StockReservationStatus> reserveStock(Long productId, Long quantity, Integer userId) {
+        // 로컬 품절 게이트에 걸리면 Redis 호출 없이 즉시 거절
+        if (stockAdmissionGate.isSoldOut(productId)) {
+            return Mono.just(StockReservationStatus.INSUFFICIENT);
+        }
 
-                // 현재 재고를 Redis에서 조회
-                return reactiveRedisTemplate.opsForValue()
-                    .get(stockKey)
-                    .flatMap(currentStock -> {
-                        long stock = Long.parseLong(currentStock);
-
-                        // 재고가 충분한 경우
-                        if (stock >= quantity) {
-                            return reactiveRedisTemplate.opsForValue()
-                                .set(stockKey, String.valueOf(stock - quantity))// 재고 차감
-                                .doOnSuccess(success -> {
-
-                                    // 재고 모니터링 업데이트 호출
-                                    stockService.updateStockMonitoring(productId, stock - quantity, "REDUCE");
-                                })
-                                .thenReturn(true); // 성공 시 true 반환
+        // 임대 모드 상품은 로컬 임대 재고에서 차감
+        if (stockLeaseService.isLeased(productId)) {
+            return withPurchaseLimit(productId, quantity, userId, Mono.defer(() ->
+                stockLeaseService.tryAcquire(productId, quantity)
+                    .doOnNext(acquired -> {
+                        if (!acquired && quantity == 1L) {
+                            stockAdmissionGate.markSoldOut(productId);
                         }
-                        return Mono.just(false); // 재고 부족 시 false 반환
                     })
-                    .doFinally(signalType -> 
-                        redissonReactiveClient.getLock("stock:lock:" + productId).unlock() // 락 해제
-                    );
+                    .map(acquired -> acquired ? StockReservationStatus.RESERVED : StockReservationStatus.INSUFFICIENT)));
+        }
+
+        if (shardedStockService.isSharded(productId)) {
+            return withPurchaseLimit(productId, quantity, userId, Mono.defer(() ->
+                shardedStockService.reserve(productId, quantity, userId)
+                    .map(result -> {
+                        if (!result.isReserved()) {
+                            log.warn("샤드 재고 차감 실패 - 상품: {}, 수량: {}", productId, quantity);
+                            // 모든 샤드에서 1개도 차감하지 못했다면 품절
+                            if (quantity == 1L) {
+                                stockAdmissionGate.markSoldOut(productId);
+                            }
+                            return result.getStatus();
+                        }
+                        // 샤드 단위 남은 재고 기록
+                        stockService.updateStockMonitoring(productId, -quantity, result.getRemainingStock(), StockJournalOp.REDUCE_SHARD);
+                        return StockReservationStatus.RESERVED;
+                    })));
+        }
+
+        // 단일 처리자 모드 상품은 소유 인스턴스의 메모리 카운터에서 순차 차감
+        if (stockSequencerService.isSequenced(productId)) {
+            return withPurchaseLimit(productId, quantity, userId, Mono.defer(() ->
+                stockSequencerService.reserve(productId, quantity)
+                    .map(result -> applyReservationResult(productId, quantity, result))));
+        }
+
+        // 구매 한도가 설정된 상품은 같은 스크립트에서 사용자별 구매 수량도 검사
+        return stockReservationService.reserveReactive(productId, quantity, userId)
+            .flatMap(result -> {
+                if (result.getStatus() != StockReservationStatus.UNINITIALIZED) {
+                    return Mono.just(result);
+                }
+
+                // 재고 키가 없으면 상품 서비스 재고로 초기화 후 재시도
+                return Mono.fromRunnable(() -> stockService.initializeStockIfAbsent(productId))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .then(stockReservationService.reserveReactive(productId, quantity, userId));
             })
+            .map(result -> applyReservationResult(productId, quantity, result))
             .doOnError(error -> 
                 log.error("재고 확인/차감 중 오류 발생 - 상품: {}, 수량: {}", productId, quantity, error)
             );
     }
 
-//    재고 복구
+    // 차감 결과에 따라 품절 게이트와 재고 저널 갱신
+    private StockReservationStatus applyReservationResult(Long productId, Long quantity, StockReservationResult result) {
+        if (!result.isReserved()) {
+            log.warn("재고 차감 실패 - 상품: {}, 수량: {}, 결과: {}", productId, quantity, result.getStatus());
+            if (result.getStatus() == StockReservationStatus.INSUFFICIENT && quantity == 1L) {
+                stockAdmissionGate.markSoldOut(productId);
+            }
+            return result.getStatus();
+        }
+
+        // 마지막 재고를 차감한 경우 품절 표시
+        if (result.getRemainingStock() == 0L) {
+            stockAdmissionGate.markSoldOut(productId);
+        }
+
+        // 재고 모니터링 업데이트 호출
+        stockService.updateStockMonitoring(productId, -quantity, result.getRemainingStock(), StockJournalOp.REDUCE);
+        return StockReservationStatus.RESERVED;
+    }
+
+    // 주문 전체 재고를 한 번에 예약 (모두 성공하거나 아무것도 차감하지 않음)
+    public Mono<BatchStockReservationResult> reserveAll(List<CreateOrderReqDto> orderRequests, Integer userId) {
+        // 같은 상품이 여러 줄이면 수량을 합산하고 상품 ID 순으로 정렬
+        Map<Long, Long> quantities = new TreeMap<>();
+        orderRequests.forEach(request -> quantities.merge(request.getProductId(), request.getQuantity(), Long::sum));
+
+        for (Long productId : quantities.keySet()) {
+            if (stockAdmissionGate.isSoldOut(productId)) {
+                return Mono.just(BatchStockReservationResult.failed(StockReservationStatus.INSUFFICIENT, productId));
+            }
+        }
+
+        // 임대/샤드/단일 처리자 상품은 단일 스크립트로 묶을 수 없으므로 순차 예약 후 실패 시 보상
+        boolean batchable = quantities.keySet().stream()
+            .noneMatch(productId -> stockLeaseService.isLeased(productId)
+                || shardedStockService.isSharded(productId)
+                || stockSequencerService.isSequenced(productId));
+        if (!batchable) {
+            return reserveSequentially(quantities, userId);
+        }
+
+        return reserveBatch(quantities, userId, quantities.size())
+            .doOnNext(result -> {
+                if (!result.isReserved()) {
+                    log.warn("일괄 재고 차감 실패 - 상품: {}, 결과: {}", result.getFailedProductId(), result.getStatus());
+                    if (result.getStatus() == StockReservationStatus.INSUFFICIENT
+                            && quantities.get(result.getFailedProductId()) == 1L) {
+                        stockAdmissionGate.markSoldOut(result.getFailedProductId());
+                    }
+                    return;
+                }
+
+                result.getRemainingStocks().forEach((productId, remainingStock) -> {
+                    if (remainingStock == 0L) {
+                        stockAdmissionGate.markSoldOut(productId);
+                    }
+                    stockService.updateStockMonitoring(productId, -quantities.get(productId), remainingStock, StockJournalOp.REDUCE);
+                });
+            })
+            .doOnError(error ->
+                log.error("일괄 재고 확인/차감 중 오류 발생 - 상품: {}", quantities, error)
+            );
+    }
+
+    // 재고 키가 없는 상품은 초기화 후 재시도 (상품 수만큼만 재시도)
+    private Mono<BatchStockReservationResult> reserveBatch(Map<Long, Long> quantities, Integer userId, int attemptsLeft) {
+        return stockReservationService.reserveAllReactive(quantities, userId)
+            .flatMap(result -> {
+                if (result.getStatus() != StockReservationStatus.UNINITIALIZED || attemptsLeft == 0) {
+                    return Mono.just(result);
+                }
+                return Mono.fromRunnable(() -> stockService.initializeStockIfAbsent(result.getFailedProductId()))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .then(reserveBatch(quantities, userId, attemptsLeft - 1));
+            });
+    }
+
+    // 상품별 순차 예약, 실패 시 앞서 예약한 재고를 복구 (실패 결과는 해당 상품의 실제 상태)
+    private Mono<BatchStockReservationResult> reserveSequentially(Map<Long, Long> quantities, Integer userId) {
+        return Mono.defer(() -> {
+            List<Long> reserved = new ArrayList<>();
+            return Flux.fromIterable(quantities.entrySet())
+                .concatMap(entry -> reserveStock(entry.getKey(), entry.getValue(), userId)
+                    .flatMap(status -> status == StockReservationStatus.RESERVED
+                        ? Mono.<BatchStockReservationResult>fromRunnable(() -> reserved.add(entry.getKey()))
+                        : Mono.just(BatchStockReservationResult.failed(status, entry.getKey()))))
+                .next()
+                .flatMap(failed -> Flux.fromIterable(reserved)
+                    .concatMap(productId -> restoreStock(productId, quantities.get(productId), userId))
+                    .then(Mono.just(failed)))
+                .switchIfEmpty(Mono.fromSupplier(() -> BatchStockReservationResult.reserved(Map.of())));
+        });
+    }
+
+    // 스크립트에 한도를 포함할 수 없는 샤드/임대 재고는 한도를 먼저 선점하고, 재고 차감 실패 시 반환
+    private Mono<StockReservationStatus> withPurchaseLimit(Long productId, Long quantity, Integer userId,
+                                                           Mono<StockReservationStatus> reservation) {
+        return purchaseLimitService.acquire(productId, userId, quantity)
+            .flatMap(acquired -> {
+                if (!acquired) {
+                    log.warn("구매 한도 초과 - 상품: {}, 사용자: {}, 수량: {}", productId, userId, quantity);
+                    return Mono.just(StockReservationStatus.LIMIT_EXCEEDED);
+                }
+                return reservation.flatMap(status -> status == StockReservationStatus.RESERVED
+                    ? Mono.just(status)
+                    : purchaseLimitService.release(productId, userId, quantity).thenReturn(status));
+            });
+    }
+
+    // 재고 복구와 함께 사용자 구매 수량 반환 (주문 실패/취소 시)
+    public Mono<Void> restoreStock(Long productId, Long quantity, Integer userId) {
+        return purchaseLimitService.release(productId, userId, quantity)
+            .onErrorResume(error -> Mono.empty())
+            .then(restoreStock(productId, quantity));
+    }
+
+    // 저장된 주문의 재고 차감을 되돌림 (보상/결제 실패/취소/반품)
+    // 주문 저장 시 상품 테이블 차감분(-수량)이 기록되었으므로 write-behind 모드면 복구분(+수량)도 기록
+    // 저장되지 않은 예약을 되돌릴 때는 상품 테이블에 차감분이 없으므로 restoreStock 사용
+    public Mono<Void> restoreSavedStock(Long productId, Long quantity, Integer userId) {
+        return restoreStock(productId, quantity, userId)
+            .then(Mono.defer(() -> stockWriteBehindService.isEnabled()
+                ? stockWriteBehindService.append(productId, quantity)
+                : Mono.empty()));
+    }
+
+//    재고 복구 (Redis 재고만 복구)
     public Mono<Void> restoreStock(Long productId, Long quantity) {
         String stockKey = STOCK_KEY_PREFIX + productId;
 
+        if (stockLeaseService.isLeased(productId)) {
+            return stockLeaseService.restore(productId, quantity)
+                .then(Mono.defer(() -> stockAdmissionGate.reopen(productId)))
+                .doOnError(error ->
+                    log.error("임대 재고 복구 중 오류 발생 - 상품: {}, 수량: {}", productId, quantity, error)
+                );
+        }
+
+        if (shardedStockService.isSharded(productId)) {
+            return shardedStockService.restore(productId, quantity)
+                .then(Mono.defer(() -> stockAdmissionGate.reopen(productId)))
+                .doOnError(error ->
+                    log.error("샤드 재고 복구 중 오류 발생 - 상품: {}, 수량: {}", productId, quantity, error)
+                );
+        }
+
         // Redis 재고 복구
         return reactiveRedisTemplate.opsForValue()
             .increment(stockKey, quantity)
-            .then()
+            .then(Mono.defer(() -> stockAdmissionGate.reopen(productId))) // 품절 게이트 해제 전파
             .doOnError(error -> 
                 log.error("재고 복구 중 오류 발생 - 상품: {}, 수량: {}", productId, quantity, error)
             );
     }
 
+    // 판매 가능한 재고 조회 (임대 재고는 아직 판매되지 않았을 수 있으므로 포함, 재고 키가 없으면 empty)
+    public Mono<Long> getAvailableStock(Long productId) {
+        if (stockLeaseService.isLeased(productId)) {
+            return stockLeaseService.reconcile(productId)
+                .map(report -> report.getRemainingStock() + report.getLeasedStock());
+        }
+        if (shardedStockService.isSharded(productId)) {
+            return shardedStockService.getTotalStock(productId);
+        }
+        return reactiveRedisTemplate.opsForValue()
+            .get(STOCK_KEY_PREFIX + productId)
+            .map(Long::parseLong);
+    }
+
     // 재고 차감 확정
     public Mono<Void> confirmStockReduction(Long productId, Long quantity) {
         String stockKey = STOCK_KEY_PREFIX + productId; // Redis 키
 
-        // Redisson 락 이용, 동시성 제어
-        return redissonReactiveClient.getLock("stock:lock:" + productId)
-            .tryLock(5, 3, TimeUnit.SECONDS)// 락 대기시간 5초, 락 유지시간 3초
-            .flatMap(locked -> {
-                if (!locked) {
-                    return Mono.error(new BusinessRuntimeException("재고 락 획득 실패"));
-                }
+        // 락 없는 모드: 락 확인과 재고 조회를 스크립트 하나로 처리, 기본: 상품 락을 잡고 조회
+        Mono<Long> currentStock = reactiveStockLock.isLeaseFree()
+            ? reactiveStockLock.executeUnlocked(productId, CONFIRM_SCRIPT, List.of(stockKey), List.of())
+            : reactiveStockLock.withLock(productId, reactiveRedisTemplate.opsForValue()
+                .get(stockKey)
+                .map(Long::parseLong));
 
-                // 현재 재고를 Redis에서 조회
-                return reactiveRedisTemplate.opsForValue()
-                    .get(stockKey)
-                    .flatMap(currentStock -> {
-                        log.info("재고 차감 확정 - 상품: {}, 수량: {}, 현재 재고: {}", 
-                            productId, quantity, currentStock);
-                        return Mono.empty();
-                    })
-                    .doFinally(signalType -> 
-                        redissonReactiveClient.getLock("stock:lock:" + productId).unlock()
-                    );
-            })
+        return currentStock
+            .filter(stock -> stock >= 0)
+            .doOnNext(stock -> log.info("재고 차감 확정 - 상품: {}, 수량: {}, 현재 재고: {}",
+                productId, quantity, stock))
             .then()
             .doOnError(error -> 
                 log.error("재고 차감 확정 중 오류 발생 - 상품: {}, 수량: {}", productId, quantity, error)
@@ -0,0 +1,259 @@
+package com.doosan.orderservice.service;
+
+import com.doosan.common.exception.BusinessRuntimeException;
+import com.doosan.orderservice.model.StockReservationResult;
+import com.doosan.orderservice.model.StockReservationStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+// 인기 상품 재고를 여러 샤드 키로 나누어 단일 키 경합을 분산
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ShardedStockService {
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private final StockReservationService stockReservationService;
+    private final StockService stockService;
+    private final StockAdmissionGate stockAdmissionGate;
+    private static final String STOCK_KEY_PREFIX = "product:stock:";
+    private static final String SHARD_CONFIG_KEY = "product:stock:shard-config"; // 상품별 샤드 수 (Hash)
+
+    // 기본 재고 키를 샤드로 분배하고 기본 키는 0으로 남김 (KEYS[1]: 기본 키, KEYS[2]: 샤드 설정, KEYS[3..]: 샤드 키)
+    // ARGV[1]: 상품 ID, ARGV[2]: 샤드 수, ARGV[3]: 1이면 이미 분배된 상품도 다시 분배
+    // 결과: 분배한 총 재고, -1: 이미 분배됨, -2: 기본 재고 키 없음
+    // 기본 키를 지우면 아직 샤드 설정을 모르는 인스턴스가 재고 키가 없다고 보고 상품 재고를 다시 불러오므로 0으로 남김
+    private static final RedisScript<Long> SPLIT_SCRIPT = new DefaultRedisScript<>(
+            "if ARGV[3] ~= '1' and redis.call('HEXISTS', KEYS[2], ARGV[1]) == 1 then return -1 end " +
+            "local stock = redis.call('GET', KEYS[1]) " +
+            "if not stock then return -2 end " +
+            "local total = tonumber(stock) " +
+            "local shards = #KEYS - 2 " +
+            "local base = math.floor(total / shards) " +
+            "local remainder = total % shards " +
+            "for i = 3, #KEYS do " +
+            "  local amount = base " +
+            "  if (i - 2) <= remainder then amount = amount + 1 end " +
+            "  redis.call('SET', KEYS[i], amount) " +
+            "end " +
+            "redis.call('SET', KEYS[1], 0) " +
+            "redis.call('HSET', KEYS[2], ARGV[1], ARGV[2]) " +
+            "return total",
+            Long.class);
+
+    // 나머지 샤드의 재고를 첫 번째 샤드로 모음 (KEYS[1]: 대상 샤드)
+    private static final RedisScript<Long> DRAIN_SCRIPT = new DefaultRedisScript<>(
+            "local moved = 0 " +
+            "for i = 2, #KEYS do " +
+            "  local stock = tonumber(redis.call('GET', KEYS[i]) or '0') " +
+            "  if stock > 0 then " +
+            "    redis.call('SET', KEYS[i], 0) " +
+            "    moved = moved + stock " +
+            "  end " +
+            "end " +
+            "if moved > 0 then redis.call('INCRBY', KEYS[1], moved) end " +
+            "return moved",
+            Long.class);
+
+    @Value("${stock.sharding.shard-counts:}")
+    private String configuredShardCounts; // 예: 100:8,101:4
+
+    @Value("${stock.sharding.low-watermark-per-shard:10}")
+    private long lowWatermarkPerShard; // 샤드당 재고가 이 값 이하로 떨어지면 하나로 모음
+
+    private final Map<Long, Integer> shardCounts = new ConcurrentHashMap<>(); // 샤드 키가 만들어진 상품
+    private final Map<Long, Integer> pendingShardCounts = new ConcurrentHashMap<>(); // 설정만 되고 아직 분배하지 않은 상품
+    private final Set<Long> drainedProducts = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void loadConfiguredShardCounts() {
+        if (!StringUtils.hasText(configuredShardCounts)) {
+            return;
+        }
+        for (String entry : configuredShardCounts.split(",")) {
+            String[] pair = entry.trim().split(":");
+            pendingShardCounts.put(Long.valueOf(pair[0].trim()), Integer.valueOf(pair[1].trim()));
+        }
+        log.info("샤드 재고 설정 로드 완료 (첫 차감 시 분배): {}", pendingShardCounts);
+    }
+
+    public boolean isSharded(Long productId) {
+        return shardCounts.containsKey(productId) || pendingShardCounts.containsKey(productId);
+    }
+
+    // 샤드 재고 초기화 (상품 서비스 재고를 불러와 N개의 샤드로 분배, 이미 분배된 상품도 다시 분배)
+    public Mono<Long> initializeShardedStock(Long productId, int shardCount) {
+        if (shardCount < 1) {
+            return Mono.error(new BusinessRuntimeException("샤드 수는 1 이상이어야 합니다."));
+        }
+
+        return Mono.fromRunnable(() -> stockService.initializeStock(productId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then(split(productId, shardCount, true))
+                .doOnNext(total -> log.info("샤드 재고 초기화 완료 - 상품: {}, 샤드 수: {}, 총 재고: {}", productId, shardCount, total))
+                .flatMap(total -> stockAdmissionGate.reopen(productId).thenReturn(total));
+    }
+
+    // 설정만 된 상품은 첫 사용 시 분배 (다른 인스턴스가 먼저 분배했으면 그 설정을 따름)
+    private Mono<Void> ensureSplit(Long productId) {
+        Integer pending = pendingShardCounts.get(productId);
+        if (pending == null || shardCounts.containsKey(productId)) {
+            return Mono.empty();
+        }
+        return split(productId, pending, false)
+                .flatMap(total -> {
+                    if (total != -2L) {
+                        return Mono.just(total);
+                    }
+                    // 기본 재고 키가 없으면 상품 서비스 재고로 초기화 후 분배
+                    return Mono.fromRunnable(() -> stockService.initializeStockIfAbsent(productId))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .then(split(productId, pending, false));
+                })
+                .flatMap(total -> total == -1L ? loadShardCount(productId) : Mono.just(total))
+                .then();
+    }
+
+    // 분배 스크립트 실행, 분배했거나 이미 분배된 상품은 샤드 키가 있으므로 샤드 상품으로 등록
+    private Mono<Long> split(Long productId, int shardCount, boolean force) {
+        List<String> keys = new ArrayList<>();
+        keys.add(STOCK_KEY_PREFIX + productId);
+        keys.add(SHARD_CONFIG_KEY);
+        keys.addAll(shardKeys(productId, shardCount));
+
+        return reactiveRedisTemplate.execute(SPLIT_SCRIPT, keys,
+                        List.of(String.valueOf(productId), String.valueOf(shardCount), force ? "1" : "0"))
+                .next()
+                .doOnNext(total -> {
+                    if (total >= 0) {
+                        shardCounts.put(productId, shardCount);
+                        pendingShardCounts.remove(productId);
+                        drainedProducts.remove(productId);
+                    }
+                });
+    }
+
+    // 다른 인스턴스가 분배한 샤드 수 조회
+    private Mono<Long> loadShardCount(Long productId) {
+        return reactiveRedisTemplate.<String, String>opsForHash()
+                .get(SHARD_CONFIG_KEY, String.valueOf(productId))
+                .doOnNext(count -> {
+                    shardCounts.put(productId, Integer.valueOf(count));
+                    pendingShardCounts.remove(productId);
+                })
+                .thenReturn(-1L);
+    }
+
+    // 샤드 재고 차감 (시작 샤드가 부족하면 나머지 샤드를 순서대로 시도)
+    public Mono<StockReservationResult> reserve(Long productId, Long quantity, Integer userId) {
+        return ensureSplit(productId).then(Mono.defer(() -> {
+            int shardCount = drainedProducts.contains(productId) ? 1 : shardCounts.getOrDefault(productId, 1);
+            int start = userId != null
+                    ? Math.floorMod(userId, shardCount)
+                    : ThreadLocalRandom.current().nextInt(shardCount);
+
+            return Flux.range(0, shardCount)
+                    .map(offset -> shardKey(productId, (start + offset) % shardCount))
+                    .concatMap(key -> stockReservationService.reserveReactive(key, quantity))
+                    .filter(StockReservationResult::isReserved)
+                    .next()
+                    .defaultIfEmpty(new StockReservationResult(StockReservationStatus.INSUFFICIENT, null));
+        }));
+    }
+
+    // 샤드 재고 복구 (모아진 상품은 첫 번째 샤드, 그 외에는 임의 샤드에 복구)
+    public Mono<Long> restore(Long productId, Long quantity) {
+        return ensureSplit(productId).then(Mono.defer(() -> {
+            int shardCount = shardCounts.getOrDefault(productId, 1);
+            int shard = drainedProducts.contains(productId) ? 0 : ThreadLocalRandom.current().nextInt(shardCount);
+            return reactiveRedisTemplate.opsForValue().increment(shardKey(productId, shard), quantity);
+        }));
+    }
+
+    // 전체 샤드 재고 합계
+    public Mono<Long> getTotalStock(Long productId) {
+        return ensureSplit(productId).then(Mono.defer(() -> reactiveRedisTemplate.opsForValue()
+                .multiGet(shardKeys(productId, shardCounts.getOrDefault(productId, 1)))
+                .map(values -> values.stream()
+                        .filter(value -> value != null)
+                        .mapToLong(Long::parseLong)
+                        .sum())));
+    }
+
+    // 재고가 얼마 남지 않으면 모든 샤드를 첫 번째 샤드로 모아 부분 재고로 인한 거절을 방지
+    public Mono<Boolean> rebalance(Long productId) {
+        int shardCount = shardCounts.getOrDefault(productId, 1);
+        if (shardCount <= 1) {
+            return Mono.just(false);
+        }
+
+        return getTotalStock(productId)
+                .flatMap(total -> {
+                    if (total > shardCount * lowWatermarkPerShard) {
+                        drainedProducts.remove(productId);
+                        return Mono.just(false);
+                    }
+                    return reactiveRedisTemplate.execute(DRAIN_SCRIPT, shardKeys(productId, shardCount), List.of())
+                            .next()
+                            .doOnNext(moved -> {
+                                drainedProducts.add(productId);
+                                if (moved > 0) {
+                                    log.info("샤드 재고 모음 완료 - 상품: {}, 이동 수량: {}, 총 재고: {}",
+                                            productId, moved, total);
+                                }
+                            })
+                            .thenReturn(true);
+                });
+    }
+
+    // 주기적으로 샤드 설정을 갱신하고 재고가 적은 상품을 모음
+    @Scheduled(fixedDelayString = "${stock.sharding.rebalance-interval-ms:1000}")
+    public void rebalanceAll() {
+        reactiveRedisTemplate.<String, String>opsForHash()
+                .entries(SHARD_CONFIG_KEY)
+                .doOnNext(entry -> {
+                    Long productId = Long.valueOf(entry.getKey());
+                    pendingShardCounts.remove(productId);
+                    if (shardCounts.put(productId, Integer.valueOf(entry.getValue())) == null) {
+                        // 분배를 알기 전 0인 기본 키로 차감하다 표시한 품절 해제
+                        stockAdmissionGate.clearLocal(productId);
+                    }
+                })
+                .thenMany(Flux.fromIterable(shardCounts.keySet()))
+                .concatMap(productId -> rebalance(productId)
+                        .onErrorResume(error -> {
+                            log.error("샤드 재고 재분배 실패 - 상품: {}", productId, error);
+                            return Mono.just(false);
+                        }))
+                .then()
+                .block();
+    }
+
+    private List<String> shardKeys(Long productId, int shardCount) {
+        return IntStream.range(0, shardCount)
+                .mapToObj(shard -> shardKey(productId, shard))
+                .toList();
+    }
+
+    private String shardKey(Long productId, int shard) {
+        return STOCK_KEY_PREFIX + productId + ":shard:" + shard;
+    }
+}
@@ -0,0 +1,96 @@
+package com.doosan.orderservice.service;
+
+import com.doosan.orderservice.model.StockEvent;
+import com.doosan.orderservice.model.StockEventType;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 인스턴스 로컬 품절 게이트 (품절 상품 요청을 Redis 호출 없이 즉시 거절)
+@Component
+@Log4j2
+public class StockAdmissionGate {
+    private final ReactiveStockEventService reactiveStockEventService;
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private final long soldOutTtlMillis;
+    private static final String SOLD_OUT_KEY_PREFIX = "product:stock:sold-out:"; // 품절 표시가 남아 있을 수 있는 상품 (로컬 표시와 같은 TTL)
+
+    // 상품 ID를 인덱스로 하는 품절 만료 시각 (0이면 판매 중)
+    private final AtomicLongArray soldOutUntil;
+    // 배열 범위를 벗어난 상품 ID용
+    private final Map<Long, Long> overflowSoldOutUntil = new ConcurrentHashMap<>();
+
+    public StockAdmissionGate(ReactiveStockEventService reactiveStockEventService,
+                              ReactiveRedisTemplate<String, String> reactiveRedisTemplate,
+                              @Value("${stock.admission.capacity:65536}") int capacity,
+                              @Value("${stock.admission.sold-out-ttl-ms:5000}") long soldOutTtlMillis) {
+        this.reactiveStockEventService = reactiveStockEventService;
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.soldOutUntil = new AtomicLongArray(capacity);
+        this.soldOutTtlMillis = soldOutTtlMillis;
+    }
+
+    // 품절 여부 확인 (TTL이 지나면 다시 Redis에서 확인하도록 허용)
+    public boolean isSoldOut(Long productId) {
+        long until = isIndexed(productId)
+                ? soldOutUntil.get(productId.intValue())
+                : overflowSoldOutUntil.getOrDefault(productId, 0L);
+        return until > System.currentTimeMillis();
+    }
+
+    // 품절 표시 (재고 차감 후 0이 되었거나 재고 부족으로 거절된 경우)
+    // 다른 인스턴스가 재입고 시 이벤트 발행 여부를 판단할 수 있도록 Redis에도 같은 TTL로 표시 (응답을 기다리지 않음)
+    public void markSoldOut(Long productId) {
+        long until = System.currentTimeMillis() + soldOutTtlMillis;
+        if (isIndexed(productId)) {
+            soldOutUntil.set(productId.intValue(), until);
+        } else {
+            overflowSoldOutUntil.put(productId, until);
+        }
+        reactiveRedisTemplate.opsForValue()
+                .set(SOLD_OUT_KEY_PREFIX + productId, "1", Duration.ofMillis(soldOutTtlMillis))
+                .subscribe(saved -> { }, error -> log.error("품절 표시 기록 실패 - 상품: {}", productId, error));
+    }
+
+    // 로컬 품절 표시 해제
+    public void clearLocal(Long productId) {
+        if (isIndexed(productId)) {
+            soldOutUntil.set(productId.intValue(), 0L);
+        } else {
+            overflowSoldOutUntil.remove(productId);
+        }
+    }
+
+    // 재고가 다시 생긴 경우 로컬 해제 후, 품절 표시가 남아 있을 때만 stock-events로 전체 인스턴스에 전파
+    // (품절 표시가 없으면 해제할 대상이 없으므로 복구마다 이벤트를 발행하지 않음)
+    public Mono<Void> reopen(Long productId) {
+        boolean markedLocally = isSoldOut(productId);
+        clearLocal(productId);
+        return reactiveRedisTemplate.delete(SOLD_OUT_KEY_PREFIX + productId)
+                .map(deleted -> deleted > 0 || markedLocally)
+                .onErrorResume(error -> {
+                    log.error("품절 표시 확인 실패 - 상품: {}", productId, error);
+                    return Mono.just(true); // 확인할 수 없으면 전파
+                })
+                .filter(Boolean::booleanValue)
+                .flatMap(soldOut -> reactiveStockEventService.publishStockEvent(StockEvent.builder()
+                                .eventType(StockEventType.STOCK_AVAILABLE)
+                                .productId(productId)
+                                .build())
+                        .onErrorResume(error -> {
+                            log.error("재입고 이벤트 발행 실패 - 상품: {}", productId, error);
+                            return Mono.empty();
+                        }));
+    }
+
+    private boolean isIndexed(Long productId) {
+        return productId >= 0 && productId < soldOutUntil.length();
+    }
+}
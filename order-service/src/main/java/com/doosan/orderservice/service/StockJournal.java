@@ -0,0 +1,282 @@
+package com.doosan.orderservice.service;
+
+import com.doosan.orderservice.dto.StockHistoryBucket;
+import com.doosan.orderservice.dto.StockHistoryPage;
+import com.doosan.orderservice.dto.StockHistorySummary;
+import com.doosan.orderservice.dto.StockJournalEntry;
+import com.doosan.orderservice.model.StockJournalOp;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 재고 변경 저널 (구매 경로에서는 링 버퍼에 고정 크기 레코드만 기록하고, Redis 스트림에는 모아서 비동기로 반영)
+@Component
+@Log4j2
+public class StockJournal {
+    private static final String JOURNAL_KEY_PREFIX = "product:journal:";
+    private static final byte[] RECORD_FIELD = "r".getBytes(StandardCharsets.UTF_8);
+
+    // 레코드 형식: 시각(8) + 상품 ID(8) + 변경 수량(8) + 변경 후 재고(8) + 변경 유형(1)
+    static final int RECORD_SIZE = 33;
+    private static final int TIMESTAMP_OFFSET = 0;
+    private static final int PRODUCT_ID_OFFSET = 8;
+    private static final int DELTA_OFFSET = 16;
+    private static final int STOCK_OFFSET = 24;
+    private static final int OP_OFFSET = 32;
+
+    // 기록 시각과 스트림 ID(반영 시각)의 차이를 감안한 조회 여유 구간
+    private static final long DRAIN_LAG_SLACK_MILLIS = 10_000L;
+    private static final int SUMMARY_SCAN_SIZE = 1000;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final int capacity;
+    private final int mask;
+    private final int drainBatchSize;
+    private final XAddOptions addOptions;
+
+    private final ByteBuffer buffer;
+    // 슬롯별로 기록이 끝난 시퀀스 (기록 중이거나 비어 있으면 다른 값)
+    private final AtomicLongArray published;
+    private final AtomicLong claimSequence = new AtomicLong();
+    private volatile long consumedSequence; // 반영 스레드만 갱신
+    private final AtomicLong droppedRecords = new AtomicLong();
+
+    public StockJournal(RedisTemplate<String, Object> redisTemplate,
+                        @Value("${stock.journal.capacity:65536}") int capacity,
+                        @Value("${stock.journal.drain-batch-size:4096}") int drainBatchSize,
+                        @Value("${stock.journal.max-len-per-product:100000}") long maxLenPerProduct) {
+        this.redisTemplate = redisTemplate;
+        this.capacity = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1; // 2의 거듭제곱으로 올림
+        this.mask = this.capacity - 1;
+        this.drainBatchSize = drainBatchSize;
+        this.addOptions = XAddOptions.maxlen(maxLenPerProduct).approximateTrimming(true);
+        this.buffer = ByteBuffer.allocate(this.capacity * RECORD_SIZE);
+        this.published = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            published.set(i, -1L);
+        }
+    }
+
+    // 재고 변경 기록 (객체 생성 없이 버퍼 슬롯에 직접 기록, 버퍼가 가득 차면 기록을 버림)
+    public void record(long productId, long delta, long stock, StockJournalOp op) {
+        long sequence;
+        do {
+            sequence = claimSequence.get();
+            if (sequence - consumedSequence >= capacity) {
+                droppedRecords.incrementAndGet();
+                return;
+            }
+        } while (!claimSequence.compareAndSet(sequence, sequence + 1));
+
+        int slot = (int) (sequence & mask);
+        int offset = slot * RECORD_SIZE;
+        buffer.putLong(offset + TIMESTAMP_OFFSET, System.currentTimeMillis());
+        buffer.putLong(offset + PRODUCT_ID_OFFSET, productId);
+        buffer.putLong(offset + DELTA_OFFSET, delta);
+        buffer.putLong(offset + STOCK_OFFSET, stock);
+        buffer.put(offset + OP_OFFSET, op.code());
+        published.lazySet(slot, sequence);
+    }
+
+    // 링 버퍼의 레코드를 상품별 Redis 스트림에 파이프라인으로 반영 (스트림 길이는 상품별 상한으로 제한)
+    @Scheduled(fixedDelayString = "${stock.journal.drain-interval-ms:200}")
+    public synchronized void drain() {
+        int drained;
+        do {
+            Map<Long, List<byte[]>> recordsByProduct = new HashMap<>();
+            drained = copyPending(recordsByProduct);
+            if (drained > 0) {
+                writeToStreams(recordsByProduct);
+            }
+        } while (drained == drainBatchSize);
+
+        long dropped = droppedRecords.getAndSet(0);
+        if (dropped > 0) {
+            log.warn("재고 저널 버퍼 초과로 누락된 기록: {}건", dropped);
+        }
+    }
+
+    // 기록이 끝난 슬롯을 순서대로 복사하고 슬롯을 반환
+    private int copyPending(Map<Long, List<byte[]>> recordsByProduct) {
+        long next = consumedSequence;
+        int count = 0;
+        while (count < drainBatchSize && published.get((int) (next & mask)) == next) {
+            int offset = (int) (next & mask) * RECORD_SIZE;
+            byte[] record = new byte[RECORD_SIZE];
+            buffer.get(offset, record);
+            recordsByProduct.computeIfAbsent(buffer.getLong(offset + PRODUCT_ID_OFFSET), id -> new ArrayList<>())
+                    .add(record);
+            next++;
+            count++;
+        }
+        consumedSequence = next;
+        return count;
+    }
+
+    private void writeToStreams(Map<Long, List<byte[]>> recordsByProduct) {
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                recordsByProduct.forEach((productId, records) -> {
+                    byte[] streamKey = journalKey(productId).getBytes(StandardCharsets.UTF_8);
+                    for (byte[] record : records) {
+                        connection.streamCommands().xAdd(
+                                StreamRecords.rawBytes(Map.of(RECORD_FIELD, record)).withStreamKey(streamKey),
+                                addOptions);
+                    }
+                });
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("재고 저널 반영 실패 - 상품 수: {}", recordsByProduct.size(), e);
+        }
+    }
+
+    // 기간 내 기록을 최신순으로 페이지 조회 (커서는 이전 페이지 마지막 레코드 ID, 기간은 null이면 제한 없음)
+    public StockHistoryPage readHistory(Long productId, Long fromMillis, Long toMillis, String cursor, int size) {
+        Range.Bound<String> lower = fromMillis == null
+                ? Range.Bound.unbounded()
+                : Range.Bound.inclusive(String.valueOf(fromMillis));
+        Range.Bound<String> upper;
+        if (cursor != null) {
+            upper = Range.Bound.exclusive(cursor);
+        } else if (toMillis != null) {
+            upper = Range.Bound.inclusive(String.valueOf(toMillis + DRAIN_LAG_SLACK_MILLIS));
+        } else {
+            upper = Range.Bound.unbounded();
+        }
+
+        List<ByteRecord> records = readRange(productId, Range.of(lower, upper), size, true);
+        List<StockJournalEntry> entries = new ArrayList<>();
+        for (ByteRecord record : records) {
+            StockJournalEntry entry = decode(record);
+            if (isWithin(entry, fromMillis, toMillis)) {
+                entries.add(entry);
+            }
+        }
+
+        return StockHistoryPage.builder()
+                .productId(productId)
+                .entries(entries)
+                .nextCursor(records.size() == size ? records.get(records.size() - 1).getId().getValue() : null)
+                .build();
+    }
+
+    // 기간 내 기록을 초 단위로 집계 (차감 건수/수량, 최소/최대 재고), 스트림을 구간별로 나눠 읽어 메모리 사용 제한
+    public StockHistorySummary summarize(Long productId, long fromMillis, long toMillis) {
+        Map<Long, StockHistoryBucket> buckets = new TreeMap<>();
+        String upper = String.valueOf(toMillis + DRAIN_LAG_SLACK_MILLIS);
+        Range.Bound<String> lower = Range.Bound.inclusive(String.valueOf(fromMillis));
+
+        List<ByteRecord> records;
+        do {
+            records = readRange(productId, Range.of(lower, Range.Bound.inclusive(upper)), SUMMARY_SCAN_SIZE, false);
+            for (ByteRecord record : records) {
+                StockJournalEntry entry = decode(record);
+                if (isWithin(entry, fromMillis, toMillis)) {
+                    accumulate(buckets, entry);
+                }
+            }
+            if (!records.isEmpty()) {
+                lower = Range.Bound.exclusive(records.get(records.size() - 1).getId().getValue());
+            }
+        } while (records.size() == SUMMARY_SCAN_SIZE);
+
+        long decrementCount = 0;
+        long decrementedQuantity = 0;
+        Long minStock = null;
+        Long maxStock = null;
+        for (StockHistoryBucket bucket : buckets.values()) {
+            decrementCount += bucket.getDecrementCount();
+            decrementedQuantity += bucket.getDecrementedQuantity();
+            if (bucket.getMinStock() != null) {
+                minStock = minStock == null ? bucket.getMinStock() : Math.min(minStock, bucket.getMinStock());
+                maxStock = maxStock == null ? bucket.getMaxStock() : Math.max(maxStock, bucket.getMaxStock());
+            }
+        }
+
+        return StockHistorySummary.builder()
+                .productId(productId)
+                .from(new Date(fromMillis))
+                .to(new Date(toMillis))
+                .decrementCount(decrementCount)
+                .decrementedQuantity(decrementedQuantity)
+                .minStock(minStock)
+                .maxStock(maxStock)
+                .buckets(new ArrayList<>(buckets.values()))
+                .build();
+    }
+
+    // 샤드 차감 기록의 재고는 샤드 단위이므로 최소/최대 재고 집계에서 제외
+    private void accumulate(Map<Long, StockHistoryBucket> buckets, StockJournalEntry entry) {
+        long second = entry.getTimestamp().getTime() / 1000 * 1000;
+        StockHistoryBucket bucket = buckets.computeIfAbsent(second, key -> StockHistoryBucket.builder()
+                .second(new Date(key))
+                .build());
+
+        if (entry.getDelta() < 0) {
+            bucket.setDecrementCount(bucket.getDecrementCount() + 1);
+            bucket.setDecrementedQuantity(bucket.getDecrementedQuantity() - entry.getDelta());
+        }
+        if (!StockJournalOp.REDUCE_SHARD.name().equals(entry.getOperation())) {
+            long stock = entry.getStock();
+            bucket.setMinStock(bucket.getMinStock() == null ? stock : Math.min(bucket.getMinStock(), stock));
+            bucket.setMaxStock(bucket.getMaxStock() == null ? stock : Math.max(bucket.getMaxStock(), stock));
+        }
+    }
+
+    private List<ByteRecord> readRange(Long productId, Range<String> range, int count, boolean reverse) {
+        byte[] streamKey = journalKey(productId).getBytes(StandardCharsets.UTF_8);
+        List<ByteRecord> records = redisTemplate.execute((RedisCallback<List<ByteRecord>>) connection -> reverse
+                ? connection.streamCommands().xRevRange(streamKey, range, Limit.limit().count(count))
+                : connection.streamCommands().xRange(streamKey, range, Limit.limit().count(count)));
+        return records != null ? records : List.of();
+    }
+
+    // 스트림 ID는 반영 시각 기준이므로 레코드의 변경 시각으로 다시 걸러냄
+    private boolean isWithin(StockJournalEntry entry, Long fromMillis, Long toMillis) {
+        long timestamp = entry.getTimestamp().getTime();
+        return (fromMillis == null || timestamp >= fromMillis) && (toMillis == null || timestamp <= toMillis);
+    }
+
+    private StockJournalEntry decode(ByteRecord record) {
+        ByteBuffer data = ByteBuffer.wrap(record.getValue().values().iterator().next());
+        return StockJournalEntry.builder()
+                .id(record.getId().getValue())
+                .timestamp(new Date(data.getLong(TIMESTAMP_OFFSET)))
+                .productId(data.getLong(PRODUCT_ID_OFFSET))
+                .delta(data.getLong(DELTA_OFFSET))
+                .stock(data.getLong(STOCK_OFFSET))
+                .operation(StockJournalOp.fromCode(data.get(OP_OFFSET)).name())
+                .build();
+    }
+
+    private String journalKey(Long productId) {
+        return JOURNAL_KEY_PREFIX + productId;
+    }
+
+    // 종료 전 남은 기록 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        drain();
+    }
+}
@@ -0,0 +1,447 @@
+package com.doosan.orderservice.service;
+
+import com.doosan.orderservice.dto.StockReconciliationReport;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 중앙 재고에서 블록 단위로 재고를 임대받아 인스턴스 로컬 카운터로 판매
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class StockLeaseService {
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private final StockService stockService;
+    private final StockAdmissionGate stockAdmissionGate;
+    private static final String STOCK_KEY_PREFIX = "product:stock:";
+    private static final String LEASE_KEY_PREFIX = "product:stock:lease:"; // 인스턴스별 임대 재고 (Hash)
+    private static final String SOLD_KEY_PREFIX = "product:stock:sold:"; // 정산된 판매 수량
+    private static final String INITIAL_KEY_PREFIX = "product:stock:initial:"; // 임대 모드 시작 재고
+    private static final String LEASE_PRODUCTS_KEY = "product:stock:lease-products"; // 임대 모드 상품 (Set)
+    private static final String HEARTBEAT_KEY_PREFIX = "product:stock:lease:heartbeat:"; // 인스턴스 생존 표시 (TTL)
+    private static final String EPOCH_KEY_PREFIX = "product:stock:lease:epoch:"; // 인스턴스별 임대 세대 (Hash)
+    private static final String EPOCH_SEQUENCE_KEY = "product:stock:lease:epoch-seq"; // 임대 세대 발급 순번
+    private static final long UNINITIALIZED = -2L;
+    private static final long STALE = -3L; // 세대 불일치 (다른 인스턴스가 회수함)
+    private static final long DEAD = -4L; // 생존 표시 만료
+
+    // 중앙 재고에서 최대 ARGV[1]개를 임대 ({임대 수량, 임대 세대} 반환, -2: 재고 키 없음, -3: 세대 불일치(회수됨), -4: 생존 표시 없음)
+    // 임대마다 인스턴스별 세대(KEYS[3])를 확인하고, 새 임대(ARGV[3] = -1)면 세대를 발급
+    // 생존 표시(KEYS[4])는 되살리지 않음 (만료된 인스턴스는 생존 표시 갱신과 세대 확인을 먼저 거쳐야 함)
+    private static final RedisScript<List> LEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[4]) == 0 then return {-4, 0} end " +
+            "local epoch = redis.call('HGET', KEYS[3], ARGV[2]) " +
+            "if tonumber(ARGV[3]) >= 0 then " +
+            "  if not epoch or tonumber(epoch) ~= tonumber(ARGV[3]) then return {-3, 0} end " +
+            "elseif not epoch then " +
+            "  epoch = redis.call('INCR', KEYS[5]) " +
+            "  redis.call('HSET', KEYS[3], ARGV[2], epoch) " +
+            "end " +
+            "local stock = redis.call('GET', KEYS[1]) " +
+            "if not stock then return {-2, tonumber(epoch)} end " +
+            "local granted = math.max(math.min(tonumber(stock), tonumber(ARGV[1])), 0) " +
+            "if granted > 0 then redis.call('DECRBY', KEYS[1], granted) end " +
+            "redis.call('HINCRBY', KEYS[2], ARGV[2], granted) " + // 0이어도 필드를 만들어 종료 시 세대와 함께 회수되도록 함
+            "return {granted, tonumber(epoch)}",
+            List.class);
+
+    // 종료된 인스턴스의 임대 재고를 중앙 재고로 회수 (KEYS[1]: 임대 Hash, KEYS[2]: 중앙 재고, KEYS[3]: 대상 인스턴스 생존 표시, KEYS[4]: 세대 Hash)
+    // 생존 표시가 다시 생겼으면 회수하지 않음 (-1), 그 외에는 세대를 지워 이후 해당 인스턴스의 정산/임대/반납을 거절하고 회수 수량 반환
+    private static final RedisScript<Long> RECLAIM_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[3]) == 1 then return -1 end " +
+            "local leased = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') " +
+            "redis.call('HDEL', KEYS[1], ARGV[1]) " +
+            "redis.call('HDEL', KEYS[4], ARGV[1]) " +
+            "if leased > 0 then redis.call('INCRBY', KEYS[2], leased) end " +
+            "return leased",
+            Long.class);
+
+    // 생존 표시 갱신 (이전 표시가 없었으면 0: 만료된 사이 임대 재고가 회수되었을 수 있음)
+    private static final RedisScript<Long> HEARTBEAT_SCRIPT = new DefaultRedisScript<>(
+            "local existed = redis.call('EXISTS', KEYS[1]) " +
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+            "return existed",
+            Long.class);
+
+    // 로컬 판매분 정산 (임대 재고에서 판매 수량으로 이동, 1: 정산, -3: 세대 불일치)
+    // 세대가 바뀌었으면(회수됨) 판매분이 임대 재고와 함께 중앙 재고로 돌아갔으므로 중앙 재고에서 차감해 판매 수량으로 이동
+    private static final RedisScript<Long> SETTLE_SCRIPT = new DefaultRedisScript<>(
+            "local epoch = tonumber(redis.call('HGET', KEYS[3], ARGV[2]) or '-1') " +
+            "redis.call('INCRBY', KEYS[2], ARGV[1]) " +
+            "if epoch ~= tonumber(ARGV[3]) then " +
+            "  redis.call('DECRBY', KEYS[4], ARGV[1]) " +
+            "  return -3 " +
+            "end " +
+            "redis.call('HINCRBY', KEYS[1], ARGV[2], -tonumber(ARGV[1])) " +
+            "return 1",
+            Long.class);
+
+    // 미사용 임대 재고 반납 (임대 재고에서 중앙 재고로 이동, 세대가 바뀌었으면 이미 회수되었으므로 -3)
+    private static final RedisScript<Long> RETURN_SCRIPT = new DefaultRedisScript<>(
+            "local epoch = tonumber(redis.call('HGET', KEYS[3], ARGV[2]) or '-1') " +
+            "if epoch ~= tonumber(ARGV[3]) then return -3 end " +
+            "redis.call('HINCRBY', KEYS[1], ARGV[2], -tonumber(ARGV[1])) " +
+            "return redis.call('INCRBY', KEYS[2], ARGV[1])",
+            Long.class);
+
+    // 주문 취소 등으로 판매분 복구 (판매 수량에서 중앙 재고로 이동)
+    private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DECRBY', KEYS[1], ARGV[1]) " +
+            "return redis.call('INCRBY', KEYS[2], ARGV[1])",
+            Long.class);
+
+    @Value("${stock.lease.product-ids:}")
+    private String configuredProductIds; // 예: 100,101
+
+    @Value("${stock.lease.block-size:50}")
+    private long blockSize; // 한 번에 임대할 재고 수량
+
+    @Value("${stock.lease.timeout-ms:30000}")
+    private long leaseTimeoutMillis; // 이 시간 동안 판매가 없으면 남은 임대 재고 반납
+
+    @Value("${stock.lease.heartbeat-ttl-ms:10000}")
+    private long heartbeatTtlMillis; // 생존 표시 유지 시간 (정산 주기보다 충분히 길게, 갱신이 끊기면 다른 인스턴스가 임대 재고 회수)
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Set<Long> leaseProducts = ConcurrentHashMap.newKeySet();
+    private final Map<Long, LocalLease> leases = new ConcurrentHashMap<>();
+    private volatile long leaseValidUntil; // 이 시각까지 로컬 판매 허용 (마지막 생존 표시 갱신 + TTL의 절반, 회수는 TTL 만료 후에만 가능)
+
+    @PostConstruct
+    public void loadConfiguredProducts() {
+        if (!StringUtils.hasText(configuredProductIds)) {
+            return;
+        }
+        for (String productId : configuredProductIds.split(",")) {
+            leaseProducts.add(Long.valueOf(productId.trim()));
+        }
+        log.info("재고 임대 모드 상품 로드 완료: {}", leaseProducts);
+    }
+
+    public boolean isLeased(Long productId) {
+        return leaseProducts.contains(productId);
+    }
+
+    // 임대 모드 활성화 (상품 서비스 재고로 초기화 후 대사 기준값 기록)
+    public Mono<Long> enableLeasing(Long productId) {
+        String stockKey = STOCK_KEY_PREFIX + productId;
+        return Mono.fromRunnable(() -> stockService.initializeStock(productId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then(reactiveRedisTemplate.opsForValue().get(stockKey))
+                .map(Long::parseLong)
+                .flatMap(initialStock -> reactiveRedisTemplate.delete(LEASE_KEY_PREFIX + productId, EPOCH_KEY_PREFIX + productId)
+                        .then(reactiveRedisTemplate.opsForValue().set(SOLD_KEY_PREFIX + productId, "0"))
+                        .then(reactiveRedisTemplate.opsForValue().set(INITIAL_KEY_PREFIX + productId, String.valueOf(initialStock)))
+                        .then(reactiveRedisTemplate.opsForSet().add(LEASE_PRODUCTS_KEY, String.valueOf(productId)))
+                        .thenReturn(initialStock))
+                .doOnNext(initialStock -> {
+                    leaseProducts.add(productId);
+                    log.info("재고 임대 모드 활성화 - 상품: {}, 초기 재고: {}", productId, initialStock);
+                });
+    }
+
+    // 로컬 임대 재고에서 차감하고, 부족하면 중앙 재고에서 블록을 임대
+    // 생존 표시 갱신이 늦어졌으면 판매 전에 갱신하고 회수 여부를 확인
+    public Mono<Boolean> tryAcquire(Long productId, Long quantity) {
+        LocalLease lease = leases.computeIfAbsent(productId, id -> new LocalLease());
+        if (System.currentTimeMillis() > leaseValidUntil) {
+            return refreshHeartbeat().then(Mono.defer(() -> acquire(productId, lease, quantity)));
+        }
+        return acquire(productId, lease, quantity);
+    }
+
+    private Mono<Boolean> acquire(Long productId, LocalLease lease, Long quantity) {
+        if (lease.tryTake(quantity)) {
+            return Mono.just(true);
+        }
+
+        long amount = Math.max(blockSize, quantity);
+        return leaseBlock(productId, lease, amount)
+                .flatMap(granted -> {
+                    if (granted == UNINITIALIZED) {
+                        // 재고 키가 없으면 상품 서비스 재고로 초기화 후 재시도
+                        return Mono.fromRunnable(() -> stockService.initializeStockIfAbsent(productId))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .then(leaseBlock(productId, lease, amount));
+                    }
+                    if (granted == DEAD) {
+                        // 생존 표시가 만료되었으면 갱신(회수 여부 확인) 후 재시도
+                        return refreshHeartbeat().then(leaseBlock(productId, lease, amount));
+                    }
+                    return Mono.just(granted);
+                })
+                .map(granted -> {
+                    if (granted > 0) {
+                        log.info("재고 블록 임대 - 상품: {}, 임대 수량: {}", productId, granted);
+                    }
+                    return lease.tryTake(quantity);
+                });
+    }
+
+    // 판매된 재고 복구 (중앙 재고로 되돌리고 판매 수량 차감)
+    public Mono<Long> restore(Long productId, Long quantity) {
+        return reactiveRedisTemplate.execute(RESTORE_SCRIPT,
+                        List.of(SOLD_KEY_PREFIX + productId, STOCK_KEY_PREFIX + productId),
+                        List.of(String.valueOf(quantity)))
+                .next();
+    }
+
+    // 임대 + 잔여 + 판매 = 초기 재고 대사 보고서
+    public Mono<StockReconciliationReport> reconcile(Long productId) {
+        Mono<Long> initial = readLong(INITIAL_KEY_PREFIX + productId);
+        Mono<Long> remaining = readLong(STOCK_KEY_PREFIX + productId);
+        Mono<Long> sold = readLong(SOLD_KEY_PREFIX + productId);
+        Mono<Map<String, Long>> leasesByInstance = reactiveRedisTemplate.<String, String>opsForHash()
+                .entries(LEASE_KEY_PREFIX + productId)
+                .collectMap(Map.Entry::getKey, entry -> Long.parseLong(entry.getValue()), HashMap::new);
+
+        return Mono.zip(initial, remaining, sold, leasesByInstance)
+                .map(tuple -> {
+                    long leased = tuple.getT4().values().stream().mapToLong(Long::longValue).sum();
+                    return StockReconciliationReport.builder()
+                            .productId(productId)
+                            .initialStock(tuple.getT1())
+                            .remainingStock(tuple.getT2())
+                            .leasedStock(leased)
+                            .soldStock(tuple.getT3())
+                            .leasesByInstance(tuple.getT4())
+                            .balanced(leased + tuple.getT2() + tuple.getT3() == tuple.getT1())
+                            .build();
+                });
+    }
+
+    // 주기적으로 판매분을 정산하고, 오래 사용하지 않은 임대 재고는 반납
+    @Scheduled(fixedDelayString = "${stock.lease.settle-interval-ms:1000}")
+    public void settleAndExpireLeases() {
+        reactiveRedisTemplate.opsForSet()
+                .members(LEASE_PRODUCTS_KEY)
+                .doOnNext(productId -> leaseProducts.add(Long.valueOf(productId)))
+                .then(refreshHeartbeat())
+                .thenMany(Flux.fromIterable(leases.entrySet()))
+                .concatMap(entry -> {
+                    LocalLease lease = entry.getValue();
+                    boolean expired = System.currentTimeMillis() - lease.lastActivity > leaseTimeoutMillis;
+                    return settle(entry.getKey(), lease)
+                            .then(expired ? returnUnused(entry.getKey(), lease) : Mono.empty())
+                            .onErrorResume(error -> {
+                                log.error("임대 재고 정산 실패 - 상품: {}", entry.getKey(), error);
+                                return Mono.empty();
+                            });
+                })
+                .then()
+                .block();
+    }
+
+    // 생존 표시가 만료된 인스턴스(비정상 종료, 장시간 정지)의 임대 재고를 중앙 재고로 회수하고 세대를 지움
+    // 정지 후 복귀한 인스턴스는 세대 불일치로 로컬 임대 재고를 버리고, 정산하지 못한 판매분은 중앙 재고에서 차감해 정산
+    // 프로세스가 종료되어 메모리의 미정산 판매분(최대 정산 주기만큼)이 사라진 경우만 판매 수량에 반영되지 못함
+    @Scheduled(fixedDelayString = "${stock.lease.sweep-interval-ms:5000}")
+    public void reclaimDeadLeases() {
+        Flux.fromIterable(leaseProducts)
+                .concatMap(productId -> reactiveRedisTemplate.<String, String>opsForHash()
+                        .keys(LEASE_KEY_PREFIX + productId)
+                        .filter(owner -> !owner.equals(instanceId))
+                        .concatMap(owner -> reactiveRedisTemplate.hasKey(HEARTBEAT_KEY_PREFIX + owner)
+                                .filter(alive -> !alive)
+                                .flatMap(dead -> reclaim(productId, owner)))
+                        .onErrorResume(error -> {
+                            log.error("임대 재고 회수 실패 - 상품: {}", productId, error);
+                            return Mono.empty();
+                        }))
+                .then()
+                .block();
+    }
+
+    // 종료 시 판매분 정산 후 남은 임대 재고 전부 반납
+    @PreDestroy
+    public void returnAllLeases() {
+        Flux.fromIterable(leases.entrySet())
+                .concatMap(entry -> settle(entry.getKey(), entry.getValue())
+                        .then(returnUnused(entry.getKey(), entry.getValue())))
+                .then(reactiveRedisTemplate.delete(HEARTBEAT_KEY_PREFIX + instanceId))
+                .then()
+                .block();
+        log.info("임대 재고 반납 완료 - 인스턴스: {}", instanceId);
+    }
+
+    private Mono<Long> reclaim(Long productId, String owner) {
+        return reactiveRedisTemplate.execute(RECLAIM_SCRIPT,
+                        List.of(LEASE_KEY_PREFIX + productId, STOCK_KEY_PREFIX + productId, HEARTBEAT_KEY_PREFIX + owner,
+                                EPOCH_KEY_PREFIX + productId),
+                        List.of(owner))
+                .next()
+                .filter(reclaimed -> reclaimed >= 0)
+                .flatMap(reclaimed -> {
+                    log.warn("종료된 인스턴스의 임대 재고 회수 - 상품: {}, 인스턴스: {}, 회수 수량: {}",
+                            productId, owner, reclaimed);
+                    return reclaimed > 0
+                            ? stockAdmissionGate.reopen(productId).thenReturn(reclaimed)
+                            : Mono.just(reclaimed);
+                });
+    }
+
+    // 생존 표시 갱신, 표시가 만료되어 있었다면 그 사이 회수된 임대를 세대로 확인해 로컬에서 제거
+    // 갱신이 끝난 뒤에만 로컬 판매 허용 시각을 늘림 (갱신 후에는 TTL 만료 전까지 회수될 수 없음)
+    private Mono<Void> refreshHeartbeat() {
+        long issuedAt = System.currentTimeMillis();
+        return reactiveRedisTemplate.execute(HEARTBEAT_SCRIPT,
+                        List.of(HEARTBEAT_KEY_PREFIX + instanceId),
+                        List.of(String.valueOf(issuedAt), String.valueOf(heartbeatTtlMillis)))
+                .next()
+                .filter(existed -> existed == 0L)
+                .flatMapMany(expired -> Flux.fromIterable(leases.entrySet()))
+                .filter(entry -> entry.getValue().epoch >= 0)
+                .concatMap(entry -> {
+                    long epoch = entry.getValue().epoch;
+                    return reactiveRedisTemplate.<String, String>opsForHash()
+                            .get(EPOCH_KEY_PREFIX + entry.getKey(), instanceId)
+                            .map(Long::parseLong)
+                            .defaultIfEmpty(-1L)
+                            .filter(current -> current != epoch)
+                            .flatMap(current -> invalidate(entry.getKey(), entry.getValue(), epoch));
+                })
+                .then(Mono.fromRunnable(() -> leaseValidUntil = Math.max(leaseValidUntil, issuedAt + heartbeatTtlMillis / 2)));
+    }
+
+    // 회수된 임대를 로컬에서 제거하고, 회수 전 판매분은 중앙 재고에서 차감해 판매 수량으로 정산
+    private Mono<Void> invalidate(Long productId, LocalLease lease, long staleEpoch) {
+        long sold = lease.invalidate(staleEpoch);
+        if (sold < 0) {
+            return Mono.empty(); // 이미 제거됨
+        }
+        log.warn("회수된 임대 재고 제거 - 상품: {}, 세대: {}, 미정산 판매: {}", productId, staleEpoch, sold);
+        return sold == 0 ? Mono.empty() : settle(productId, lease, sold, staleEpoch);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mono<Long> leaseBlock(Long productId, LocalLease lease, long amount) {
+        long expectedEpoch = lease.epoch;
+        return reactiveRedisTemplate.execute(LEASE_SCRIPT,
+                        List.of(STOCK_KEY_PREFIX + productId, LEASE_KEY_PREFIX + productId, EPOCH_KEY_PREFIX + productId,
+                                HEARTBEAT_KEY_PREFIX + instanceId, EPOCH_SEQUENCE_KEY),
+                        List.of(String.valueOf(amount), instanceId, String.valueOf(expectedEpoch)))
+                .next()
+                .flatMap(reply -> {
+                    List<Long> result = (List<Long>) reply;
+                    long granted = result.get(0);
+                    if (granted == STALE) {
+                        // 회수된 임대는 버리고 새 세대로 다시 임대
+                        return invalidate(productId, lease, expectedEpoch)
+                                .then(Mono.defer(() -> leaseBlock(productId, lease, amount)));
+                    }
+                    if (granted >= 0) {
+                        lease.add(granted, result.get(1));
+                    }
+                    return Mono.just(granted);
+                });
+    }
+
+    private Mono<Void> settle(Long productId, LocalLease lease) {
+        long epoch = lease.epoch;
+        long sold = lease.drainSold();
+        if (sold == 0) {
+            return Mono.empty();
+        }
+        return settle(productId, lease, sold, epoch);
+    }
+
+    private Mono<Void> settle(Long productId, LocalLease lease, long sold, long epoch) {
+        return reactiveRedisTemplate.execute(SETTLE_SCRIPT,
+                        List.of(LEASE_KEY_PREFIX + productId, SOLD_KEY_PREFIX + productId, EPOCH_KEY_PREFIX + productId,
+                                STOCK_KEY_PREFIX + productId),
+                        List.of(String.valueOf(sold), instanceId, String.valueOf(epoch)))
+                .next()
+                .filter(result -> result == STALE)
+                .flatMap(stale -> invalidate(productId, lease, epoch));
+    }
+
+    private Mono<Void> returnUnused(Long productId, LocalLease lease) {
+        long epoch = lease.epoch;
+        long unused = lease.drainAvailable();
+        if (unused == 0) {
+            return Mono.empty();
+        }
+        return reactiveRedisTemplate.execute(RETURN_SCRIPT,
+                        List.of(LEASE_KEY_PREFIX + productId, STOCK_KEY_PREFIX + productId, EPOCH_KEY_PREFIX + productId),
+                        List.of(String.valueOf(unused), instanceId, String.valueOf(epoch)))
+                .next()
+                .flatMap(stock -> {
+                    if (stock == STALE) {
+                        // 이미 회수되어 중앙 재고로 돌아간 임대
+                        return invalidate(productId, lease, epoch);
+                    }
+                    log.info("임대 재고 반납 - 상품: {}, 반납 수량: {}, 중앙 재고: {}", productId, unused, stock);
+                    return stockAdmissionGate.reopen(productId); // 다른 인스턴스의 품절 표시 해제
+                });
+    }
+
+    private Mono<Long> readLong(String key) {
+        return reactiveRedisTemplate.opsForValue().get(key)
+                .map(Long::parseLong)
+                .defaultIfEmpty(0L);
+    }
+
+    // 인스턴스 로컬 임대 재고 (세대가 바뀌면 남은 재고를 버리고 판매를 멈춤)
+    private static class LocalLease {
+        private long available; // 판매 가능한 임대 재고
+        private long sold; // 정산 전 판매 수량
+        private volatile long epoch = -1; // 임대 세대 (-1: 임대 없음)
+        private volatile long lastActivity = System.currentTimeMillis();
+
+        synchronized boolean tryTake(long quantity) {
+            if (epoch < 0 || available < quantity) {
+                return false;
+            }
+            available -= quantity;
+            sold += quantity;
+            lastActivity = System.currentTimeMillis();
+            return true;
+        }
+
+        synchronized void add(long quantity, long leaseEpoch) {
+            epoch = leaseEpoch;
+            available += quantity;
+            lastActivity = System.currentTimeMillis();
+        }
+
+        synchronized long drainSold() {
+            long drained = sold;
+            sold = 0;
+            return drained;
+        }
+
+        synchronized long drainAvailable() {
+            long drained = available;
+            available = 0;
+            return drained;
+        }
+
+        // 회수된 세대의 임대 재고를 버리고 미정산 판매 수량 반환 (이미 다른 세대면 -1)
+        synchronized long invalidate(long staleEpoch) {
+            if (epoch != staleEpoch) {
+                return -1;
+            }
+            epoch = -1;
+            available = 0;
+            return drainSold();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,137 @@
+package com.doosan.orderservice.service;
+
+import com.doosan.common.enums.ProductCategory;
+import com.doosan.orderservice.dto.StockPrewarmReport;
+import com.doosan.productservice.service.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 판매 시작 전 상품 재고를 Redis에 일괄 적재 (구매 경로의 지연 초기화를 피하기 위함)
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class StockPrewarmService {
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ProductService productService;
+    private final ShardedStockService shardedStockService;
+    private final StockLeaseService stockLeaseService;
+    private final StockAdmissionGate stockAdmissionGate;
+    private static final String STOCK_KEY_PREFIX = "product:stock:";
+    private static final int MSET_CHUNK_SIZE = 1000;
+
+    @Value("${stock.prewarm.product-ids:}")
+    private String configuredProductIds; // 예: 100,101,102
+
+    @Value("${stock.prewarm.category:}")
+    private String configuredCategory; // 예: ELECTRONICS
+
+    // 설정된 시각에 사전 적재 (stock.prewarm.cron 미설정 시 비활성화)
+    @Scheduled(cron = "${stock.prewarm.cron:-}")
+    public void scheduledPrewarm() {
+        List<Long> productIds = StringUtils.hasText(configuredProductIds)
+                ? Arrays.stream(configuredProductIds.split(",")).map(id -> Long.valueOf(id.trim())).toList()
+                : null;
+        ProductCategory category = StringUtils.hasText(configuredCategory)
+                ? ProductCategory.valueOf(configuredCategory.trim())
+                : null;
+        if (productIds == null && category == null) {
+            log.warn("재고 사전 적재 대상이 설정되지 않았습니다.");
+            return;
+        }
+        prewarm(productIds, category);
+    }
+
+    // 상품 목록 또는 카테고리의 재고를 한 번의 쿼리로 조회해 파이프라인 MSET으로 적재
+    // 판매 시작 전 실행을 전제로 하며, 기존 재고 키를 덮어씀
+    public StockPrewarmReport prewarm(List<Long> productIds, ProductCategory category) {
+        long startTime = System.currentTimeMillis();
+
+        Map<Long, Long> quantities = new HashMap<>();
+        if (productIds != null && !productIds.isEmpty()) {
+            quantities.putAll(productService.getStockQuantities(productIds));
+        }
+        if (category != null) {
+            quantities.putAll(productService.getStockQuantitiesByCategory(category));
+        }
+        long loadedTime = System.currentTimeMillis();
+
+        // 샤드/임대 모드 상품은 메인 재고 키 의미가 다르므로 제외
+        Map<byte[], byte[]> entries = new HashMap<>();
+        List<Long> skippedProductIds = new ArrayList<>();
+        List<Long> soldOutProductIds = new ArrayList<>();
+        quantities.forEach((productId, quantity) -> {
+            if (shardedStockService.isSharded(productId) || stockLeaseService.isLeased(productId)) {
+                skippedProductIds.add(productId);
+                return;
+            }
+            entries.put((STOCK_KEY_PREFIX + productId).getBytes(StandardCharsets.UTF_8),
+                    String.valueOf(quantity).getBytes(StandardCharsets.UTF_8));
+        });
+
+        writeStocks(entries);
+        long writtenTime = System.currentTimeMillis();
+
+        // 로컬 품절 게이트를 적재한 재고 기준으로 맞춤
+        quantities.forEach((productId, quantity) -> {
+            if (skippedProductIds.contains(productId)) {
+                return;
+            }
+            if (quantity <= 0) {
+                stockAdmissionGate.markSoldOut(productId);
+                soldOutProductIds.add(productId);
+            } else {
+                stockAdmissionGate.clearLocal(productId);
+            }
+        });
+
+        StockPrewarmReport report = StockPrewarmReport.builder()
+                .requestedProducts(quantities.size())
+                .loadedKeys(entries.size())
+                .skippedProductIds(skippedProductIds)
+                .soldOutProductIds(soldOutProductIds)
+                .loadMillis(loadedTime - startTime)
+                .writeMillis(writtenTime - loadedTime)
+                .elapsedMillis(System.currentTimeMillis() - startTime)
+                .completedDate(new Date())
+                .build();
+        log.info("재고 사전 적재 완료 - 적재 키: {}, 제외: {}, 조회: {}ms, 적재: {}ms, 전체: {}ms",
+                report.getLoadedKeys(), skippedProductIds.size(),
+                report.getLoadMillis(), report.getWriteMillis(), report.getElapsedMillis());
+        return report;
+    }
+
+    // 재고 스크립트가 읽을 수 있도록 숫자 문자열로 저장 (MSET을 청크 단위로 나눠 한 번의 파이프라인으로 전송)
+    private void writeStocks(Map<byte[], byte[]> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            Map<byte[], byte[]> chunk = new HashMap<>();
+            for (Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+                chunk.put(entry.getKey(), entry.getValue());
+                if (chunk.size() == MSET_CHUNK_SIZE) {
+                    connection.stringCommands().mSet(chunk);
+                    chunk = new HashMap<>();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                connection.stringCommands().mSet(chunk);
+            }
+            return null;
+        });
+    }
+}
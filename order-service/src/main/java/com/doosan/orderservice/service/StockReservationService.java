@@ -0,0 +1,179 @@
+package com.doosan.orderservice.service;
+
+import com.doosan.orderservice.model.BatchStockReservationResult;
+import com.doosan.orderservice.model.StockReservationResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 분산 락 없이 Redis 스크립트 한 번으로 재고 확인과 차감을 처리
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class StockReservationService {
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private static final String STOCK_KEY_PREFIX = "product:stock:";
+
+    // 재고 확인 및 차감 스크립트 (-4: 수량 오류, -3: 구매 한도 초과, -2: 키 없음, -1: 재고 부족, 0 이상: 남은 재고)
+    // 0 이하 수량은 DECRBY/HINCRBY로 재고와 구매 수량을 거꾸로 늘리므로 가장 먼저 거절
+    // KEYS[2], KEYS[3]과 ARGV[2](사용자 ID)가 있으면 구매 한도를 같은 스크립트에서 검사하고 구매 수량을 누적
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "local quantity = tonumber(ARGV[1]) " +
+            "if not quantity or quantity <= 0 then return -4 end " +
+            "local stock = redis.call('GET', KEYS[1]) " +
+            "if not stock then return -2 end " +
+            "local limit = false " +
+            "if KEYS[2] and ARGV[2] ~= '' then limit = redis.call('GET', KEYS[2]) end " +
+            "if limit and tonumber(redis.call('HGET', KEYS[3], ARGV[2]) or '0') + quantity > tonumber(limit) then return -3 end " +
+            "if tonumber(stock) < quantity then return -1 end " +
+            "local remaining = redis.call('DECRBY', KEYS[1], quantity) " +
+            "if limit then " +
+            "  redis.call('HINCRBY', KEYS[3], ARGV[2], quantity) " +
+            "  if redis.call('PTTL', KEYS[3]) == -1 then " +
+            "    local ttl = redis.call('PTTL', KEYS[2]) " +
+            "    if ttl > 0 then redis.call('PEXPIRE', KEYS[3], ttl) end " +
+            "  end " +
+            "end " +
+            "return remaining",
+            Long.class);
+
+    // 여러 상품 재고를 한 번에 확인 후 모두 차감 (하나라도 부족하거나 한도를 넘으면 아무것도 차감하지 않음)
+    // KEYS: 재고 키 n개 + (사용자 지정 시) 한도 키 n개 + 구매 수량 키 n개, ARGV: 수량 n개 + 사용자 ID
+    // 0 이하 수량이 하나라도 있으면 아무것도 확인하지 않고 거절 ('-4,순번')
+    private static final RedisScript<String> RESERVE_ALL_SCRIPT = new DefaultRedisScript<>(
+            "local n = #ARGV - 1 " +
+            "local user = ARGV[n + 1] " +
+            "local limited = user ~= '' and #KEYS == 3 * n " +
+            "local limits = {} " +
+            "for i = 1, n do " +
+            "  local quantity = tonumber(ARGV[i]) " +
+            "  if not quantity or quantity <= 0 then return '-4,' .. i end " +
+            "end " +
+            "for i = 1, n do " +
+            "  local stock = redis.call('GET', KEYS[i]) " +
+            "  if not stock then return '-2,' .. i end " +
+            "  local quantity = tonumber(ARGV[i]) " +
+            "  if limited then " +
+            "    limits[i] = redis.call('GET', KEYS[n + i]) " +
+            "    if limits[i] and tonumber(redis.call('HGET', KEYS[2 * n + i], user) or '0') + quantity > tonumber(limits[i]) then " +
+            "      return '-3,' .. i " +
+            "    end " +
+            "  end " +
+            "  if tonumber(stock) < quantity then return '-1,' .. i end " +
+            "end " +
+            "local reply = '1' " +
+            "for i = 1, n do " +
+            "  reply = reply .. ',' .. redis.call('DECRBY', KEYS[i], ARGV[i]) " +
+            "  if limited and limits[i] then " +
+            "    redis.call('HINCRBY', KEYS[2 * n + i], user, ARGV[i]) " +
+            "    if redis.call('PTTL', KEYS[2 * n + i]) == -1 then " +
+            "      local ttl = redis.call('PTTL', KEYS[n + i]) " +
+            "      if ttl > 0 then redis.call('PEXPIRE', KEYS[2 * n + i], ttl) end " +
+            "    end " +
+            "  end " +
+            "end " +
+            "return reply",
+            String.class);
+
+    // 재고 값 설정 스크립트 (직렬화 형식과 무관하게 숫자 문자열로 저장)
+    private static final RedisScript<Long> SET_STOCK_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], ARGV[1]) " +
+            "return tonumber(ARGV[1])",
+            Long.class);
+
+    // 재고 키가 없을 때만 값 설정 (1: 설정됨, 0: 이미 존재)
+    private static final RedisScript<Long> SET_STOCK_IF_ABSENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SET', KEYS[1], ARGV[1], 'NX') then return 1 end " +
+            "return 0",
+            Long.class);
+
+    private static final StringRedisSerializer ARGS_SERIALIZER = StringRedisSerializer.UTF_8;
+    private static final GenericToStringSerializer<Long> RESULT_SERIALIZER =
+            new GenericToStringSerializer<>(Long.class);
+
+    // 재고 차감 (블로킹)
+    public StockReservationResult reserve(Long productId, Long quantity) {
+        Long code = redisTemplate.execute(RESERVE_SCRIPT, ARGS_SERIALIZER, RESULT_SERIALIZER,
+                List.of(stockKey(productId)), String.valueOf(quantity));
+        return StockReservationResult.fromCode(code);
+    }
+
+    // 재고 차감 (리액티브)
+    public Mono<StockReservationResult> reserveReactive(Long productId, Long quantity) {
+        return reserveReactive(stockKey(productId), quantity);
+    }
+
+    // 재고 차감과 사용자 구매 한도 검사를 한 번에 처리 (사용자 ID가 없으면 한도 검사 생략)
+    public Mono<StockReservationResult> reserveReactive(Long productId, Long quantity, Integer userId) {
+        if (userId == null) {
+            return reserveReactive(productId, quantity);
+        }
+        return execute(List.of(stockKey(productId), PurchaseLimitService.limitKey(productId),
+                        PurchaseLimitService.purchasedKey(productId)),
+                List.of(String.valueOf(quantity), String.valueOf(userId)));
+    }
+
+    // 지정한 재고 키에서 차감 (샤드 키 등 상품 기본 키 외의 카운터에 사용)
+    public Mono<StockReservationResult> reserveReactive(String stockKey, Long quantity) {
+        return execute(List.of(stockKey), List.of(String.valueOf(quantity)));
+    }
+
+    private Mono<StockReservationResult> execute(List<String> keys, List<String> args) {
+        return reactiveRedisTemplate.execute(RESERVE_SCRIPT, keys, args)
+                .next()
+                .map(StockReservationResult::fromCode)
+                .doOnError(error ->
+                        log.error("재고 예약 스크립트 실행 실패 - 키: {}, 인자: {}", keys, args, error)
+                );
+    }
+
+    // 주문의 모든 상품 재고를 한 번의 스크립트로 차감 (상품 ID 순으로 키를 정렬해 전달)
+    // 사용자 ID가 있으면 상품별 구매 한도도 같은 스크립트에서 검사
+    public Mono<BatchStockReservationResult> reserveAllReactive(Map<Long, Long> quantities, Integer userId) {
+        List<Long> productIds = new ArrayList<>(new TreeMap<>(quantities).keySet());
+        List<String> keys = new ArrayList<>(productIds.stream().map(this::stockKey).toList());
+        List<String> args = new ArrayList<>(productIds.stream().map(id -> String.valueOf(quantities.get(id))).toList());
+        if (userId != null) {
+            productIds.forEach(id -> keys.add(PurchaseLimitService.limitKey(id)));
+            productIds.forEach(id -> keys.add(PurchaseLimitService.purchasedKey(id)));
+        }
+        args.add(userId != null ? String.valueOf(userId) : "");
+
+        return reactiveRedisTemplate.execute(RESERVE_ALL_SCRIPT, keys, args)
+                .next()
+                .map(reply -> BatchStockReservationResult.fromReply(reply, productIds))
+                .doOnError(error ->
+                        log.error("일괄 재고 예약 스크립트 실행 실패 - 상품: {}", quantities, error)
+                );
+    }
+
+    // 재고 값 저장 (스크립트와 INCRBY가 읽을 수 있는 숫자 형식으로 저장)
+    public void setStock(Long productId, Long stock) {
+        redisTemplate.execute(SET_STOCK_SCRIPT, ARGS_SERIALIZER, RESULT_SERIALIZER,
+                List.of(stockKey(productId)), String.valueOf(stock));
+    }
+
+    // 재고 키가 없을 때만 저장 (동시 초기화로 차감분이 덮어써지는 것을 방지)
+    public boolean setStockIfAbsent(Long productId, Long stock) {
+        Long result = redisTemplate.execute(SET_STOCK_IF_ABSENT_SCRIPT, ARGS_SERIALIZER, RESULT_SERIALIZER,
+                List.of(stockKey(productId)), String.valueOf(stock));
+        return result != null && result == 1L;
+    }
+
+    private String stockKey(Long productId) {
+        return STOCK_KEY_PREFIX + productId;
+    }
+}
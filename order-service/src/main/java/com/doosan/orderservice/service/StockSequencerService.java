@@ -0,0 +1,282 @@
+package com.doosan.orderservice.service;
+
+import com.doosan.orderservice.model.StockReservationResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 인기 상품 단일 처리자 모드 (상품별 소유 인스턴스 한 곳에서 메모리 카운터로 순차 처리, 락 없음)
+// 소유 인스턴스는 Eureka 인스턴스 목록의 일관된 해싱으로 결정하고, 소유권이 바뀌면 Redis에서 카운터를 다시 읽음
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class StockSequencerService {
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StockReservationService stockReservationService;
+    private final StockService stockService;
+    private final ObjectProvider<DiscoveryClient> discoveryClientProvider;
+    private final ObjectProvider<Registration> registrationProvider;
+    private final WebClient webClient;
+    private static final String STOCK_KEY_PREFIX = "product:stock:";
+    static final String RESERVE_PATH = "/internal/stock-sequencer/{productId}/reserve";
+    public static final String SECRET_HEADER = "X-Stock-Sequencer-Secret";
+
+    @Value("${spring.application.name:order-service}")
+    private String serviceId;
+
+    @Value("${stock.sequencer.product-ids:}")
+    private String configuredProductIds; // 예: 100,101
+
+    @Value("${stock.sequencer.virtual-nodes:100}")
+    private int virtualNodes; // 인스턴스당 해시 링 가상 노드 수
+
+    @Value("${stock.sequencer.internal-secret:}")
+    private String internalSecret; // 인스턴스 간 전달 요청 인증용 공유 비밀값 (미설정 시 전달하지 않고 로컬에서 처리)
+
+    @Value("${stock.sequencer.resync-interval-ms:1000}")
+    private long resyncIntervalMillis; // 재고 부족 시 Redis 재조회 최소 간격 (다른 경로의 재고 복구 반영)
+
+    private final Set<Long> sequencedProducts = ConcurrentHashMap.newKeySet();
+    private volatile NavigableMap<Long, ServiceInstance> ring = new TreeMap<>();
+    private volatile String localInstanceId;
+
+    // 모든 카운터는 이 스레드에서만 읽고 씀
+    private final ExecutorService sequencer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stock-sequencer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<Long, SequencedCounter> counters = new HashMap<>();
+
+    @PostConstruct
+    public void loadConfiguredProducts() {
+        if (!StringUtils.hasText(configuredProductIds)) {
+            return;
+        }
+        for (String productId : configuredProductIds.split(",")) {
+            sequencedProducts.add(Long.valueOf(productId.trim()));
+        }
+        log.info("단일 처리자 모드 상품 로드 완료: {}", sequencedProducts);
+    }
+
+    public boolean isSequenced(Long productId) {
+        return sequencedProducts.contains(productId);
+    }
+
+    // 소유 인스턴스에서 재고 차감 (다른 인스턴스 소유면 해당 인스턴스로 전달)
+    public Mono<StockReservationResult> reserve(Long productId, Long quantity) {
+        ServiceInstance owner = ownerOf(productId);
+        if (owner == null || owner.getInstanceId().equals(localInstanceId) || !StringUtils.hasText(internalSecret)) {
+            return reserveLocal(productId, quantity).map(StockReservationResult::fromCode);
+        }
+
+        return webClient.post()
+                .uri(owner.getUri() + RESERVE_PATH + "?quantity={quantity}", productId, quantity)
+                .header(SECRET_HEADER, internalSecret)
+                .retrieve()
+                .bodyToMono(Long.class)
+                .map(StockReservationResult::fromCode)
+                // 소유 인스턴스에 연결할 수 없으면(Eureka에서 제거되기 전 종료 등) 로컬에서 처리
+                // 반영은 조건부 차감 스크립트로 하므로 두 인스턴스가 같은 상품을 처리해도 초과 판매되지 않음
+                .onErrorResume(WebClientRequestException.class, error -> {
+                    log.warn("소유 인스턴스 연결 실패, 로컬에서 재고 차감 - 상품: {}, 소유: {}, 사유: {}",
+                            productId, owner.getInstanceId(), error.getMessage());
+                    return reserveLocal(productId, quantity).map(StockReservationResult::fromCode);
+                })
+                .doOnError(error -> log.error("소유 인스턴스 재고 차감 요청 실패 - 상품: {}, 소유: {}",
+                        productId, owner.getInstanceId(), error));
+    }
+
+    // 전달 요청의 비밀값 확인 (비밀값이 설정되지 않았으면 모든 전달 요청 거절)
+    public boolean isTrustedCaller(String secret) {
+        if (!StringUtils.hasText(internalSecret) || secret == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(internalSecret.getBytes(StandardCharsets.UTF_8), secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 로컬 카운터에서 순차 처리 (반환 코드는 재고 스크립트와 동일)
+    public Mono<Long> reserveLocal(Long productId, Long quantity) {
+        return Mono.create(sink -> sequencer.execute(() -> handle(productId, quantity, sink)));
+    }
+
+    private void handle(Long productId, long quantity, MonoSink<Long> sink) {
+        SequencedCounter counter = counters.computeIfAbsent(productId, id -> new SequencedCounter());
+        long now = System.currentTimeMillis();
+        if (!counter.loaded || (counter.available < quantity && now - counter.syncedAt >= resyncIntervalMillis)) {
+            try {
+                sync(productId, counter);
+            } catch (Exception e) {
+                sink.error(e);
+                return;
+            }
+        }
+        if (!counter.loaded) {
+            sink.success(StockReservationResult.UNINITIALIZED_CODE);
+            return;
+        }
+        if (counter.available < quantity) {
+            sink.success(StockReservationResult.INSUFFICIENT_CODE);
+            return;
+        }
+
+        // 메모리에서 먼저 차감하고, 같은 시점에 쌓인 요청을 묶어 한 번에 Redis에 반영한 뒤 응답
+        counter.available -= quantity;
+        counter.pending.add(new PendingReservation(quantity, sink));
+        if (!counter.flushScheduled) {
+            counter.flushScheduled = true;
+            sequencer.execute(() -> flush(productId, counter));
+        }
+    }
+
+    // 대기 중인 차감분을 조건부 차감 스크립트 한 번으로 반영
+    private void flush(Long productId, SequencedCounter counter) {
+        counter.flushScheduled = false;
+        List<PendingReservation> batch = counter.pending;
+        counter.pending = new ArrayList<>();
+        long total = batch.stream().mapToLong(PendingReservation::quantity).sum();
+
+        StockReservationResult result;
+        try {
+            result = stockReservationService.reserve(productId, total);
+        } catch (Exception e) {
+            log.error("단일 처리자 재고 반영 실패 - 상품: {}, 수량: {}", productId, total, e);
+            counter.loaded = false;
+            batch.forEach(reservation -> reservation.sink().error(e));
+            return;
+        }
+
+        if (result.isReserved()) {
+            counter.available = result.getRemainingStock();
+            counter.syncedAt = System.currentTimeMillis();
+            long remaining = result.getRemainingStock() + total;
+            for (PendingReservation reservation : batch) {
+                remaining -= reservation.quantity();
+                reservation.sink().success(remaining);
+            }
+            return;
+        }
+
+        // Redis 재고가 메모리보다 적음 (소유권 이전 중 이전 소유자가 차감한 경우 등): 다시 읽고 요청별로 재처리
+        log.warn("단일 처리자 카운터 불일치, Redis에서 다시 로드 - 상품: {}, 결과: {}", productId, result.getStatus());
+        counter.loaded = false;
+        batch.forEach(reservation -> handle(productId, reservation.quantity(), reservation.sink()));
+    }
+
+    private void sync(Long productId, SequencedCounter counter) {
+        Long stock = readStock(productId);
+        if (stock == null) {
+            stockService.initializeStockIfAbsent(productId);
+            stock = readStock(productId);
+        }
+        counter.loaded = stock != null;
+        counter.available = stock != null ? stock : 0L;
+        counter.syncedAt = System.currentTimeMillis();
+    }
+
+    private Long readStock(Long productId) {
+        Object value = redisTemplate.opsForValue().get(STOCK_KEY_PREFIX + productId);
+        return value instanceof Number number ? number.longValue() : null;
+    }
+
+    // Eureka 인스턴스 목록으로 해시 링 갱신, 소유하지 않게 된 상품의 카운터는 제거 (다시 소유하면 Redis에서 로드)
+    @Scheduled(fixedDelayString = "${stock.sequencer.ring-refresh-ms:5000}")
+    public void refreshRing() {
+        if (sequencedProducts.isEmpty()) {
+            return;
+        }
+
+        Registration registration = registrationProvider.getIfAvailable();
+        localInstanceId = registration != null ? registration.getInstanceId() : null;
+
+        DiscoveryClient discoveryClient = discoveryClientProvider.getIfAvailable();
+        List<ServiceInstance> instances = discoveryClient != null
+                ? new ArrayList<>(discoveryClient.getInstances(serviceId))
+                : List.of();
+        instances.sort(Comparator.comparing(ServiceInstance::getInstanceId));
+
+        NavigableMap<Long, ServiceInstance> newRing = new TreeMap<>();
+        for (ServiceInstance instance : instances) {
+            for (int i = 0; i < virtualNodes; i++) {
+                newRing.put(hash(instance.getInstanceId() + "#" + i), instance);
+            }
+        }
+        ring = newRing;
+
+        sequencer.execute(() -> counters.keySet().removeIf(productId -> {
+            ServiceInstance owner = ownerOf(productId);
+            boolean moved = owner != null && !owner.getInstanceId().equals(localInstanceId);
+            if (moved) {
+                log.info("단일 처리자 소유권 이전 - 상품: {}, 새 소유: {}", productId, owner.getInstanceId());
+            }
+            return moved;
+        }));
+    }
+
+    // 인스턴스 목록이 없으면 (단독 실행) 로컬에서 처리
+    private ServiceInstance ownerOf(Long productId) {
+        NavigableMap<Long, ServiceInstance> current = ring;
+        if (current.isEmpty() || localInstanceId == null) {
+            return null;
+        }
+        Map.Entry<Long, ServiceInstance> entry = current.ceilingEntry(mix(productId));
+        return entry != null ? entry.getValue() : current.firstEntry().getValue();
+    }
+
+    private static long hash(String value) {
+        return mix(UUID.nameUUIDFromBytes(value.getBytes(StandardCharsets.UTF_8)).getMostSignificantBits());
+    }
+
+    // 상품 ID가 연속적이어도 링에 고르게 분포하도록 비트 혼합
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sequencer.shutdown();
+    }
+
+    // 단일 처리자 스레드 전용 상태
+    private static class SequencedCounter {
+        private boolean loaded;
+        private long available;
+        private long syncedAt;
+        private boolean flushScheduled;
+        private List<PendingReservation> pending = new ArrayList<>();
+    }
+
+    private record PendingReservation(long quantity, MonoSink<Long> sink) {
+    }
+}
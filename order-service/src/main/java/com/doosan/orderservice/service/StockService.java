@@ -1,22 +1,22 @@
 package com.doosan.orderservice.service;
 
-import com.doosan.common.dto.ResponseDto;
 import com.doosan.common.dto.order.CreateOrderReqDto;
-import com.doosan.productservice.dto.ProductResponse;
+import com.doosan.orderservice.dto.StockHistoryPage;
+import com.doosan.orderservice.dto.StockHistorySummary;
+import com.doosan.orderservice.model.StockJournalOp;
+import com.doosan.orderservice.model.StockReservationResult;
+import com.doosan.orderservice.model.StockReservationStatus;
 import com.doosan.productservice.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
 import java.util.Date;
 import java.util.List;
-import java.util.ArrayList;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
@@ -25,8 +25,11 @@ public class StockService {
     private final RedisTemplate<String, Object> redisTemplate;
     private final RedissonClient redissonClient;
     private final ProductService productService;
+    private final StockReservationService stockReservationService;
+    private final StockWriteBehindService stockWriteBehindService;
+    private final StockJournal stockJournal;
+    private final StockAdmissionGate stockAdmissionGate;
     private static final String STOCK_KEY_PREFIX = "product:stock:";
-    private static final String STOCK_MONITOR_KEY_PREFIX = "product:monitor:";
 
     // 재고 초기화 (상품 서비스의 재고를 Redis에 동기화)
     public void initializeStock(Long productId) {
@@ -35,14 +38,9 @@ public class StockService {
 
         try {
             if (lock.tryLock(5, 3, TimeUnit.SECONDS)) {
-                ResponseEntity<ResponseDto<ProductResponse>> response =
-                    productService.getProduct(productId);
-                if (response.getBody() != null && response.getBody().getData() != null) {
-                    Long stock = Long.valueOf(response.getBody().getData().getQuantity());
-                    redisTemplate.opsForValue().set(
-                        STOCK_KEY_PREFIX + productId, 
-                        stock
-                    );
+                Long stock = loadProductStock(productId);
+                if (stock != null) {
+                    stockReservationService.setStock(productId, stock);
                     log.info("재고 초기화 완료. 상품 ID: {}, 수량: {}", productId, stock);
                 }
             }
@@ -56,132 +54,82 @@ public class StockService {
         }
     }
 
-    // 재고 복구 (주문 취소/실패 시)
-    public void restoreStock(Long productId, Long quantity) {
-        RLock lock = redissonClient.getLock("stock:lock:" + productId);
-        try {
-            if (lock.tryLock(5, 3, TimeUnit.SECONDS)) {
-                try {
-                    // Redis 재고 복구
-                    Object stockObj = redisTemplate.opsForValue().get(STOCK_KEY_PREFIX + productId);
-                    Long currentStock = null;
-                    
-                    if (stockObj == null) {
-                        initializeStock(productId);
-                        stockObj = redisTemplate.opsForValue().get(STOCK_KEY_PREFIX + productId);
-                    }
-                    
-                    if (stockObj instanceof Integer) {
-                        currentStock = Long.valueOf((Integer) stockObj);
-                    } else if (stockObj instanceof Long) {
-                        currentStock = (Long) stockObj;
-                    }
-
-                    Long newStock = currentStock + quantity;
-                    redisTemplate.opsForValue().set(STOCK_KEY_PREFIX + productId, newStock);
-                    
-                    // DB 재고 복구
-                    productService.updateStock(CreateOrderReqDto.builder()
-                        .productId(productId)
-                        .quantity(quantity)  // 양수값으로 전달하여 재고 증가
-                        .build());
-                    
-                    updateStockMonitoring(productId, newStock, "RESTORE");
-                    log.info("재고 복구 완료. 상품 ID: {}, 현재 재고: {}, 복구 수량: {}, 최종 재고: {}", 
-                        productId, currentStock, quantity, newStock);
-                    
-                } finally {
-                    lock.unlock();
-                }
-            }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("재고 복구 중 오류 발생", e);
-            throw new RuntimeException("재고 복구 중 오류 발생", e);
+    // 재고 키가 없을 때만 초기화 (구매 경로에서 사용, 이미 차감된 재고를 덮어쓰지 않음)
+    public void initializeStockIfAbsent(Long productId) {
+        Long stock = loadProductStock(productId);
+        if (stock != null && stockReservationService.setStockIfAbsent(productId, stock)) {
+            log.info("재고 초기화 완료. 상품 ID: {}, 수량: {}", productId, stock);
         }
     }
 
-    // 재고 모니터링 정보 업데이트
-    public void updateStockMonitoring(Long productId, Long currentStock, String operation) {
-        String monitorKey = STOCK_MONITOR_KEY_PREFIX + productId;
-        String monitorInfo = String.format(
-            "{\"timestamp\":\"%s\",\"stock\":%d,\"operation\":\"%s\"}", 
-            new Date(), currentStock, operation
-        );
-        redisTemplate.opsForList().leftPush(monitorKey, monitorInfo);
-        redisTemplate.expire(monitorKey, 24, TimeUnit.HOURS);
+    // 상품 서비스에서 현재 재고 조회 (상품 상세 캐시를 거치지 않고 상품 테이블에서 직접 조회)
+    private Long loadProductStock(Long productId) {
+        return productService.getStockQuantities(List.of(productId)).get(productId);
     }
 
-    // 재고 모니터링 정보 조회
-    public List<String> getStockMonitoringHistory(Long productId) {
-        String monitorKey = STOCK_MONITOR_KEY_PREFIX + productId;
-        Long size = redisTemplate.opsForList().size(monitorKey);
-        if (size == null || size == 0) {
-            return new ArrayList<>();
+    // 재고 복구 (주문 취소/실패 시)
+    public void restoreStock(Long productId, Long quantity) {
+        String stockKey = STOCK_KEY_PREFIX + productId;
+        if (Boolean.FALSE.equals(redisTemplate.hasKey(stockKey))) {
+            initializeStockIfAbsent(productId);
         }
-        
-        List<Object> rawList = redisTemplate.opsForList().range(monitorKey, 0, size - 1);
-        if (rawList == null) {
-            return new ArrayList<>();
+
+        // Redis 재고 복구 (INCRBY는 원자적이므로 락 불필요)
+        Long newStock = redisTemplate.opsForValue().increment(stockKey, quantity);
+
+        // DB 재고 복구 (write-behind 모드면 변경분만 기록)
+        if (stockWriteBehindService.isEnabled()) {
+            stockWriteBehindService.append(productId, quantity).block();
+        } else {
+            productService.updateStock(CreateOrderReqDto.builder()
+                .productId(productId)
+                .quantity(quantity)  // 양수값으로 전달하여 재고 증가
+                .build());
         }
-        
-        return rawList.stream()
-                .map(Object::toString)
-                .collect(Collectors.toList());
-    }
 
-    public boolean tryAcquireStock(Long productId, Long quantity) {
-        String lockKey = "lock:" + STOCK_KEY_PREFIX + productId;
-        RLock lock = redissonClient.getLock(lockKey);
+        updateStockMonitoring(productId, quantity, newStock, StockJournalOp.RESTORE);
+        stockAdmissionGate.reopen(productId).block(); // 품절 표시된 인스턴스가 있으면 해제
+        log.info("재고 복구 완료. 상품 ID: {}, 복구 수량: {}, 최종 재고: {}",
+            productId, quantity, newStock);
+    }
 
-        try {
-            boolean isLocked = lock.tryLock(5, 3, TimeUnit.SECONDS);
-            if (!isLocked) {
-                log.warn("재고 락 획득 실패. 상품 ID: {}", productId);
-                return false;
-            }
+    // 재고 변경 저널 기록 (구매 경로에서 Redis 호출 없이 로컬 링 버퍼에만 기록)
+    public void updateStockMonitoring(long productId, long delta, long currentStock, StockJournalOp operation) {
+        stockJournal.record(productId, delta, currentStock, operation);
+    }
 
-            Object stockObj = redisTemplate.opsForValue().get(STOCK_KEY_PREFIX + productId);
-            Long currentStock = null;
-            
-            if (stockObj instanceof Integer) {
-                currentStock = Long.valueOf((Integer) stockObj);
-            } else if (stockObj instanceof Long) {
-                currentStock = (Long) stockObj;
-            }
+    // 재고 변경 저널 조회 (최신순, 기간 + 커서 기반 페이지)
+    public StockHistoryPage getStockMonitoringHistory(Long productId, Date from, Date to, String cursor, int size) {
+        return stockJournal.readHistory(productId,
+            from != null ? from.getTime() : null,
+            to != null ? to.getTime() : null,
+            cursor, size);
+    }
 
-            if (currentStock == null) {
-                initializeStock(productId);
-                stockObj = redisTemplate.opsForValue().get(STOCK_KEY_PREFIX + productId);
-                if (stockObj instanceof Integer) {
-                    currentStock = Long.valueOf((Integer) stockObj);
-                } else if (stockObj instanceof Long) {
-                    currentStock = (Long) stockObj;
-                }
-            }
+    // 재고 변경 저널 초 단위 집계
+    public StockHistorySummary getStockMonitoringSummary(Long productId, Date from, Date to) {
+        return stockJournal.summarize(productId, from.getTime(), to.getTime());
+    }
 
-            if (currentStock == null || currentStock < quantity) {
-                log.warn("재고 부족. 상품 ID: {}, 현재 재고: {}, 요청 수량: {}", 
-                    productId, currentStock, quantity);
-                return false;
-            }
+    // 재고 차감 (Redis 스크립트 한 번으로 확인과 차감을 원자적으로 처리)
+    public boolean tryAcquireStock(Long productId, Long quantity) {
+        StockReservationResult result = stockReservationService.reserve(productId, quantity);
 
-            redisTemplate.opsForValue().set(STOCK_KEY_PREFIX + productId, currentStock - quantity);
-            updateStockMonitoring(productId, currentStock - quantity, "DECREASE");
-            
-            log.info("재고 차감 성공. 상품 ID: {}, 차감 수량: {}, 남은 재고: {}", 
-                productId, quantity, currentStock - quantity);
-            return true;
+        if (result.getStatus() == StockReservationStatus.UNINITIALIZED) {
+            initializeStockIfAbsent(productId);
+            result = stockReservationService.reserve(productId, quantity);
+        }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("재고 차감 중 인터럽트 발생. 상품 ID: {}", productId, e);
+        if (!result.isReserved()) {
+            log.warn("재고 차감 실패. 상품 ID: {}, 요청 수량: {}, 결과: {}",
+                productId, quantity, result.getStatus());
             return false;
-        } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
         }
+
+        updateStockMonitoring(productId, -quantity, result.getRemainingStock(), StockJournalOp.DECREASE);
+        log.info("재고 차감 성공. 상품 ID: {}, 차감 수량: {}, 남은 재고: {}",
+            productId, quantity, result.getRemainingStock());
+        return true;
     }
 
     // 재고 차감 확정 메서드 추가
@@ -203,7 +151,7 @@ public class StockService {
 
                     if (currentStock != null) {
                         // 재고 모니터링 정보 업데이트
-                        updateStockMonitoring(productId, currentStock, "CONFIRMED");
+                        updateStockMonitoring(productId, 0L, currentStock, StockJournalOp.CONFIRMED);
                         log.info("재고 차감 확정 완료. 상품 ID: {}, 수량: {}, 현재 재고: {}", 
                             productId, quantity, currentStock);
                     }
@@ -0,0 +1,132 @@
+package com.doosan.orderservice.service;
+
+import com.doosan.orderservice.dto.StockWriteBehindStatus;
+import com.doosan.orderservice.entity.StockWriteBehindOffset;
+import com.doosan.orderservice.event.StockDeltaEvent;
+import com.doosan.orderservice.repository.StockWriteBehindOffsetRepository;
+import com.doosan.productservice.service.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 판매 중에는 Redis 재고를 기준으로 하고, 상품 테이블 재고는 변경분을 모아 비동기로 반영
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class StockWriteBehindService {
+    private final KafkaTemplate<String, StockDeltaEvent> kafkaTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final StockWriteBehindOffsetRepository offsetRepository;
+    private final ProductService productService;
+
+    private static final String UPDATE_STOCK_SQL = "UPDATE product SET quantity = quantity + ? WHERE id = ?";
+
+    @Value("${stock.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${kafka.topic.stock-deltas:stock-deltas}")
+    private String stockDeltaTopic;
+
+    private final AtomicLong appliedEvents = new AtomicLong();
+    private final AtomicLong flushedStatements = new AtomicLong();
+    private final AtomicLong skippedEvents = new AtomicLong();
+    private volatile long lastLagMillis;
+    private volatile Date lastFlushDate;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 재고 변경분을 로그(Kafka)에 추가 (상품 ID를 키로 사용해 상품별 순서 보장)
+    // 발행 결과를 반환하므로 호출자는 결과를 기다려 발행 실패를 주문 실패/재시도로 처리해야 함
+    public Mono<Void> append(Long productId, Long delta) {
+        return Mono.defer(() -> {
+            StockDeltaEvent event = StockDeltaEvent.builder()
+                    .productId(productId)
+                    .delta(delta)
+                    .eventDate(new Date())
+                    .build();
+            return Mono.fromFuture(kafkaTemplate.send(stockDeltaTopic, String.valueOf(productId), event));
+        })
+        .doOnError(ex -> log.error("재고 변경 이벤트 발행 실패 - 상품: {}, 변경 수량: {}", productId, delta, ex))
+        .then();
+    }
+
+    // 변경분을 상품별로 합산해 일괄 UPDATE (반영 오프셋을 같은 트랜잭션에 저장해 재처리 시 중복 반영 방지)
+    @Transactional
+    public void flush(List<ConsumerRecord<String, StockDeltaEvent>> records) {
+        Map<String, Long> appliedOffsets = new HashMap<>();
+        offsetRepository.findAll().forEach(offset ->
+                appliedOffsets.put(offset.getTopicPartition(), offset.getAppliedOffset()));
+
+        Map<Long, Long> deltas = new TreeMap<>(); // 상품 ID 순으로 갱신해 행 락 순서를 고정
+        Map<String, Long> newOffsets = new HashMap<>();
+        long oldestEventTime = Long.MAX_VALUE;
+        int applied = 0;
+
+        for (ConsumerRecord<String, StockDeltaEvent> record : records) {
+            String topicPartition = record.topic() + "-" + record.partition();
+            if (record.offset() <= appliedOffsets.getOrDefault(topicPartition, -1L)) {
+                skippedEvents.incrementAndGet();
+                continue;
+            }
+
+            StockDeltaEvent event = record.value();
+            deltas.merge(event.getProductId(), event.getDelta(), Long::sum);
+            newOffsets.merge(topicPartition, record.offset(), Math::max);
+            if (event.getEventDate() != null) {
+                oldestEventTime = Math.min(oldestEventTime, event.getEventDate().getTime());
+            }
+            applied++;
+        }
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>();
+        deltas.forEach((productId, delta) -> {
+            if (delta != 0L) {
+                batchArgs.add(new Object[]{delta, productId});
+            }
+        });
+        jdbcTemplate.batchUpdate(UPDATE_STOCK_SQL, batchArgs);
+        deltas.keySet().forEach(productService::onStockChanged); // 커밋 후 상품 상세 캐시의 재고 무효화
+
+        newOffsets.forEach((topicPartition, offset) ->
+                offsetRepository.save(new StockWriteBehindOffset(topicPartition, offset)));
+
+        long now = System.currentTimeMillis();
+        appliedEvents.addAndGet(applied);
+        flushedStatements.addAndGet(batchArgs.size());
+        lastLagMillis = oldestEventTime == Long.MAX_VALUE ? 0 : now - oldestEventTime;
+        lastFlushDate = new Date(now);
+        log.info("상품 재고 일괄 반영 완료 - 이벤트: {}, UPDATE: {}, 지연: {}ms",
+                applied, batchArgs.size(), lastLagMillis);
+    }
+
+    public StockWriteBehindStatus getStatus() {
+        return StockWriteBehindStatus.builder()
+                .enabled(enabled)
+                .appliedEvents(appliedEvents.get())
+                .flushedStatements(flushedStatements.get())
+                .skippedEvents(skippedEvents.get())
+                .lastLagMillis(lastLagMillis)
+                .lastFlushDate(lastFlushDate)
+                .build();
+    }
+}
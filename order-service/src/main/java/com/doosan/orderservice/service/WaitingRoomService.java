@@ -0,0 +1,204 @@
+package com.doosan.orderservice.service;
+
+import com.doosan.orderservice.dto.WaitingRoomTicket;
+import com.doosan.orderservice.model.WaitingRoomStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+// 주문 생성 앞단의 가상 대기열 (대기 번호 순으로 일정 속도로 입장시키고, 재고가 소진되면 입장 종료)
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class WaitingRoomService {
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private final ReactiveStockService reactiveStockService;
+    private static final String QUEUE_KEY = "order:waiting-room:queue"; // 대기열 (Sorted Set, 점수 = 대기 번호)
+    private static final String SEQUENCE_KEY = "order:waiting-room:sequence"; // 대기 번호 발급기
+    private static final String ADMITTED_KEY = "order:waiting-room:admitted"; // 입장 허용 사용자 (Sorted Set, 점수 = 만료 시각)
+    private static final String LAST_ADMIT_KEY = "order:waiting-room:last-admit"; // 마지막 입장 처리 시각
+    private static final String SOLD_OUT_KEY = "order:waiting-room:sold-out"; // 재고 소진 표시
+
+    // 상태 코드: 0 대기열 없음, 1 대기 중 {순번, 대기 번호}, 2 입장 허용 {만료 시각}, 3 재고 소진
+    private static final String STATUS_SCRIPT_BODY =
+            "if redis.call('EXISTS', KEYS[4]) == 1 then return {3, 0, 0} end " +
+            "local admitted = redis.call('ZSCORE', KEYS[3], ARGV[1]) " +
+            "if admitted and tonumber(admitted) >= tonumber(ARGV[2]) then return {2, tonumber(admitted), 0} end " +
+            "local ticket = redis.call('ZSCORE', KEYS[1], ARGV[1]) ";
+
+    // 대기열 등록 (이미 대기 중이면 기존 대기 번호 유지)
+    private static final RedisScript<List> ENTER_SCRIPT = new DefaultRedisScript<>(
+            STATUS_SCRIPT_BODY +
+            "if not ticket then " +
+            "  ticket = redis.call('INCR', KEYS[2]) " +
+            "  redis.call('ZADD', KEYS[1], ticket, ARGV[1]) " +
+            "end " +
+            "return {1, redis.call('ZRANK', KEYS[1], ARGV[1]) + 1, tonumber(ticket)}",
+            List.class);
+
+    private static final RedisScript<List> STATUS_SCRIPT = new DefaultRedisScript<>(
+            STATUS_SCRIPT_BODY +
+            "if not ticket then return {0, 0, 0} end " +
+            "return {1, redis.call('ZRANK', KEYS[1], ARGV[1]) + 1, tonumber(ticket)}",
+            List.class);
+
+    // 대기 번호 순으로 입장 (모든 인스턴스가 실행해도 마지막 입장 시각으로 전체 입장 속도를 제한)
+    private static final RedisScript<Long> ADMIT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[4]) == 1 then return 0 end " +
+            "local now = tonumber(ARGV[1]) " +
+            "if now - tonumber(redis.call('GET', KEYS[3]) or '0') < tonumber(ARGV[2]) then return 0 end " +
+            "redis.call('SET', KEYS[3], ARGV[1]) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', '(' .. ARGV[1]) " +
+            "local popped = redis.call('ZPOPMIN', KEYS[1], ARGV[3]) " +
+            "local expiresAt = now + tonumber(ARGV[4]) " +
+            "for i = 1, #popped, 2 do redis.call('ZADD', KEYS[2], expiresAt, popped[i]) end " +
+            "return #popped / 2",
+            Long.class);
+
+    // 입장 허용을 주문 1건에 사용 (1: 사용, 0: 입장 허용 없음 또는 만료)
+    private static final RedisScript<Long> CONSUME_SCRIPT = new DefaultRedisScript<>(
+            "local expiresAt = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if not expiresAt or tonumber(expiresAt) < tonumber(ARGV[2]) then return 0 end " +
+            "redis.call('ZREM', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    @Value("${order.waiting-room.enabled:false}")
+    private boolean enabled;
+
+    @Value("${order.waiting-room.admit-per-interval:100}")
+    private long admitPerInterval; // 한 번에 입장시킬 인원
+
+    @Value("${order.waiting-room.admit-interval-ms:1000}")
+    private long admitIntervalMillis; // 입장 처리 간격
+
+    @Value("${order.waiting-room.admission-window-ms:60000}")
+    private long admissionWindowMillis; // 입장 후 주문 가능 시간
+
+    @Value("${order.waiting-room.product-ids:}")
+    private String configuredProductIds; // 재고 소진 판단 대상 상품, 예: 100,101
+
+    private final List<Long> productIds = new ArrayList<>();
+
+    @PostConstruct
+    public void loadConfiguredProducts() {
+        if (!StringUtils.hasText(configuredProductIds)) {
+            return;
+        }
+        for (String productId : configuredProductIds.split(",")) {
+            productIds.add(Long.valueOf(productId.trim()));
+        }
+        log.info("대기열 재고 소진 판단 상품 로드 완료: {}", productIds);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 대기열 등록 후 현재 상태 반환
+    public Mono<WaitingRoomTicket> enter(Integer userId) {
+        return runStatusScript(ENTER_SCRIPT, userId);
+    }
+
+    // 현재 대기 상태 조회
+    public Mono<WaitingRoomTicket> getStatus(Integer userId) {
+        return runStatusScript(STATUS_SCRIPT, userId);
+    }
+
+    // 대기 상태를 주기적으로 전송 (입장 허용 또는 재고 소진 시 종료)
+    public Flux<WaitingRoomTicket> streamStatus(Integer userId, long intervalMillis) {
+        return Flux.interval(Duration.ZERO, Duration.ofMillis(intervalMillis))
+                .concatMap(tick -> getStatus(userId))
+                .takeUntil(ticket -> ticket.getStatus() != WaitingRoomStatus.WAITING);
+    }
+
+    // 입장 허용을 사용 (주문 1건당 1회)
+    public Mono<Boolean> consumeAdmission(Integer userId) {
+        return reactiveRedisTemplate.execute(CONSUME_SCRIPT, List.of(ADMITTED_KEY),
+                        List.of(String.valueOf(userId), String.valueOf(System.currentTimeMillis())))
+                .next()
+                .map(result -> result == 1L);
+    }
+
+    // 재고 소진 여부를 갱신한 뒤 대기 번호 순으로 입장 처리
+    @Scheduled(fixedDelayString = "${order.waiting-room.admit-interval-ms:1000}")
+    public void admit() {
+        if (!enabled) {
+            return;
+        }
+
+        refreshSoldOut()
+                .then(Mono.defer(() -> reactiveRedisTemplate.execute(ADMIT_SCRIPT,
+                                List.of(QUEUE_KEY, ADMITTED_KEY, LAST_ADMIT_KEY, SOLD_OUT_KEY),
+                                List.of(String.valueOf(System.currentTimeMillis()),
+                                        String.valueOf(admitIntervalMillis),
+                                        String.valueOf(admitPerInterval),
+                                        String.valueOf(admissionWindowMillis)))
+                        .next()))
+                .doOnNext(admitted -> {
+                    if (admitted > 0) {
+                        log.info("대기열 입장 처리 - 입장 인원: {}", admitted);
+                    }
+                })
+                .onErrorResume(error -> {
+                    log.error("대기열 입장 처리 실패", error);
+                    return Mono.empty();
+                })
+                .block();
+    }
+
+    // 대상 상품의 판매 가능 재고가 모두 0이면 입장 종료, 재고가 복구되면 다시 입장 허용
+    private Mono<Void> refreshSoldOut() {
+        if (productIds.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return Flux.fromIterable(productIds)
+                .concatMap(productId -> reactiveStockService.getAvailableStock(productId)
+                        .defaultIfEmpty(Long.MAX_VALUE)) // 재고 키가 없으면 아직 판매 전
+                .all(stock -> stock <= 0)
+                .flatMap(soldOut -> soldOut
+                        ? reactiveRedisTemplate.opsForValue().setIfAbsent(SOLD_OUT_KEY, "1")
+                            .doOnNext(changed -> {
+                                if (changed) {
+                                    log.info("재고 소진으로 대기열 입장 종료 - 상품: {}", productIds);
+                                }
+                            })
+                            .then()
+                        : reactiveRedisTemplate.delete(SOLD_OUT_KEY).then());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mono<WaitingRoomTicket> runStatusScript(RedisScript<List> script, Integer userId) {
+        return reactiveRedisTemplate.execute(script,
+                        List.of(QUEUE_KEY, SEQUENCE_KEY, ADMITTED_KEY, SOLD_OUT_KEY),
+                        List.of(String.valueOf(userId), String.valueOf(System.currentTimeMillis())))
+                .next()
+                .map(reply -> toTicket(userId, (List<Long>) reply));
+    }
+
+    private WaitingRoomTicket toTicket(Integer userId, List<Long> reply) {
+        WaitingRoomTicket.WaitingRoomTicketBuilder ticket = WaitingRoomTicket.builder().userId(userId);
+        switch (reply.get(0).intValue()) {
+            case 1 -> ticket.status(WaitingRoomStatus.WAITING).position(reply.get(1)).ticket(reply.get(2));
+            case 2 -> ticket.status(WaitingRoomStatus.ADMITTED).admittedUntil(new Date(reply.get(1)));
+            case 3 -> ticket.status(WaitingRoomStatus.SOLD_OUT);
+            default -> ticket.status(WaitingRoomStatus.NOT_IN_QUEUE);
+        }
+        return ticket.build();
+    }
+}
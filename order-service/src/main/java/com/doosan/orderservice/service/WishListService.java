@@ -7,9 +7,9 @@ import com.doosan.orderservice.dto.*;
 import com.doosan.orderservice.entity.Order;
 import com.doosan.orderservice.entity.OrderItem;
 import com.doosan.orderservice.entity.WishList;
+import com.doosan.orderservice.model.ProductPriceTable;
 import com.doosan.orderservice.repository.WishListRepository;
 import com.doosan.productservice.dto.ProductResponse;
-import com.doosan.productservice.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.http.HttpStatus;
@@ -17,9 +17,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.scheduler.Scheduler;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -28,7 +29,9 @@ import java.util.Optional;
 public class WishListService {
     private final WishListRepository wishListRepository;
     private final OrderService orderService;
-    private final ProductService productService;
+    private final ProductCatalogCache productCatalogCache;
+    private final ProductPriceResolver productPriceResolver;
+    private final Scheduler blockingScheduler; // 블로킹 조회 실행 스케줄러 (ExecutorConfig)
 
     public Mono<ResponseEntity<ResponseDto<List<WishListDto>>>> getWishList(int userId) {
         return Mono.fromCallable(() -> {
@@ -51,7 +54,7 @@ public class WishListService {
                         .resultMessage("위시리스트 조회 실패")
                         .build()
                 )))
-        .subscribeOn(Schedulers.boundedElastic());
+        .subscribeOn(blockingScheduler);
     }
 
     private WishListDto convertToDto(WishList item) {
@@ -59,9 +62,8 @@ public class WishListService {
         dto.setProductId(item.getProductId());
         dto.setQuantity(item.getQuantity());
 
-        ResponseDto<ProductResponse> productResponse = productService.getProduct(item.getProductId()).getBody();
-        if (productResponse != null && productResponse.getData() != null) {
-            ProductResponse product = productResponse.getData();
+        ProductResponse product = productCatalogCache.getProduct(item.getProductId());
+        if (product != null) {
             dto.setProductName(product.getName());
             dto.setPrice(product.getPrice());
             dto.setDescription(product.getDescription());
@@ -107,7 +109,7 @@ public class WishListService {
                             .build()
                     ))
         )
-        .subscribeOn(Schedulers.boundedElastic());
+        .subscribeOn(blockingScheduler);
     }
 
     public Mono<ResponseEntity<ResponseDto<Void>>> updateWishListItem(int userId, Long productId, int quantity) {
@@ -133,7 +135,7 @@ public class WishListService {
                             .build()
                     ))
         )
-        .subscribeOn(Schedulers.boundedElastic());
+        .subscribeOn(blockingScheduler);
     }
 
     public Mono<ResponseEntity<ResponseDto<Void>>> removeFromWishList(int userId, Long productId) {
@@ -167,7 +169,7 @@ public class WishListService {
                             .build()
                     ))
         )
-        .subscribeOn(Schedulers.boundedElastic());
+        .subscribeOn(blockingScheduler);
     }
 
     @Transactional
@@ -213,7 +215,10 @@ public class WishListService {
             filteredItems.forEach(item -> item.setDeleted(true));
             wishListRepository.saveAll(filteredItems);
 
-            // 응답 데이터 생성
+            // 응답 데이터 생성 (상품 가격과 이름을 각각 한 번에 조회)
+            ProductPriceTable prices = productPriceResolver.resolve(orderItemRequests);
+            Map<Long, String> productNames = productCatalogCache.getProductNames(
+                    orderItemRequests.stream().map(CreateOrderReqDto::getProductId).toList());
             WishListOrderResponseDto responseData = WishListOrderResponseDto.builder()
                     .orderId(orderResult.getOrderId())
                     .userId(orderResult.getUserId())
@@ -221,17 +226,15 @@ public class WishListService {
                     .totalPrice(orderResult.getTotalPrice())
                     .items(orderItemRequests.stream()
                             .map(item -> {
-                                ResponseDto<ProductResponse> productResponse = productService.getProduct(item.getProductId()).getBody();
-                                if (productResponse != null && productResponse.getData() != null) {
-                                    ProductResponse product = productResponse.getData();
-                                    return OrderItemDto.builder()
-                                            .productId(item.getProductId())
-                                            .productName(product.getName())
-                                            .quantity(Math.toIntExact(item.getQuantity()))
-                                            .price(product.getPrice())
-                                            .build();
+                                if (!prices.contains(item.getProductId()) || !productNames.containsKey(item.getProductId())) {
+                                    throw new BusinessRuntimeException("상품 정보를 조회할 수 없습니다.");
                                 }
-                                throw new BusinessRuntimeException("상품 정보를 조회할 수 없습니다.");
+                                return OrderItemDto.builder()
+                                        .productId(item.getProductId())
+                                        .productName(productNames.get(item.getProductId()))
+                                        .quantity(Math.toIntExact(item.getQuantity()))
+                                        .price(prices.priceOf(item.getProductId()))
+                                        .build();
                             })
                             .toList())
                     .build();
@@ -264,9 +267,8 @@ public class WishListService {
     }
 
     private OrderItemDto convertToOrderItemDto(OrderItem item) {
-        ResponseDto<ProductResponse> productResponse = productService.getProduct(Long.valueOf(item.getProductId())).getBody();
-        if (productResponse != null && productResponse.getData() != null) {
-            ProductResponse product = productResponse.getData();
+        ProductResponse product = productCatalogCache.getProduct(Long.valueOf(item.getProductId()));
+        if (product != null) {
             return OrderItemDto.builder()
                     .productId(Long.valueOf(item.getProductId()))
                     .productName(product.getName())
@@ -0,0 +1,118 @@
+package com.doosan.orderservice.test.service;
+
+import com.doosan.common.dto.order.CreateOrderReqDto;
+import com.doosan.orderservice.service.OrderAssemblyService;
+import com.doosan.orderservice.service.OrderService;
+import com.doosan.orderservice.test.config.TestKafkaConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import(TestKafkaConfig.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+public class OrderCreationBenchmarkTest {
+
+    private static final int WARM_UP_ORDERS = 10; // 측정 전 준비 주문 수
+    private static final int NUMBER_OF_ORDERS = 100; // 측정 주문 수
+    private static final int USER_ID = 1;
+
+    // 상품 3개 주문 (상품 ID는 테스트 DB에 존재해야 함)
+    private static final List<CreateOrderReqDto> ORDER_ITEMS = List.of(
+            CreateOrderReqDto.builder().productId(100L).quantity(1L).build(),
+            CreateOrderReqDto.builder().productId(101L).quantity(1L).build(),
+            CreateOrderReqDto.builder().productId(102L).quantity(1L).build());
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderAssemblyService orderAssemblyService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int lastOrderIdBefore; // 테스트 전 마지막 주문 ID (이후 생성된 주문만 정리)
+    private final Map<Long, Long> stockBefore = new HashMap<>(); // 테스트 전 상품 재고
+
+    @BeforeEach
+    public void setUp() {
+        lastOrderIdBefore = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM `order`", Integer.class);
+        stockBefore.clear();
+        for (CreateOrderReqDto item : ORDER_ITEMS) {
+            stockBefore.put(item.getProductId(), jdbcTemplate.queryForObject(
+                    "SELECT quantity FROM product WHERE id = ?", Long.class, item.getProductId()));
+        }
+    }
+
+    // 기존 주문 생성 경로와 빠른 경로의 주문당 SQL 문 수와 지연 시간 비교
+    @Test
+    public void compareLegacyAndFastPathOrderCreation() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Result legacyResult = run(statistics, () -> orderService.createOrder(USER_ID, ORDER_ITEMS));
+        Result fastPathResult = run(statistics, () -> orderAssemblyService.assemble(USER_ID, ORDER_ITEMS));
+
+        // 결과 출력
+        System.out.println("=== 주문 생성 벤치마크 (주문당 상품 " + ORDER_ITEMS.size() + "개, 주문 " + NUMBER_OF_ORDERS + "건) ===");
+        System.out.println("기존 경로  - " + legacyResult);
+        System.out.println("빠른 경로  - " + fastPathResult);
+
+        // 빠른 경로는 주문당 실행하는 SQL 문이 더 적어야 함
+        assertTrue(fastPathResult.statementsPerOrder() < legacyResult.statementsPerOrder());
+    }
+
+    // 생성한 주문, 주문 항목, 주문 내역을 지우고 상품 재고를 테스트 전 값으로 되돌림
+    @AfterEach
+    public void cleanUp() {
+        jdbcTemplate.update("DELETE FROM `orderItem` WHERE order_id > ?", lastOrderIdBefore);
+        jdbcTemplate.update("DELETE FROM order_summary WHERE order_id > ?", lastOrderIdBefore);
+        jdbcTemplate.update("DELETE FROM `order` WHERE id > ?", lastOrderIdBefore);
+        stockBefore.forEach((productId, quantity) ->
+                jdbcTemplate.update("UPDATE product SET quantity = ? WHERE id = ?", quantity, productId));
+    }
+
+    private Result run(Statistics statistics, Runnable createOrder) {
+        for (int i = 0; i < WARM_UP_ORDERS; i++) {
+            createOrder.run();
+        }
+
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < NUMBER_OF_ORDERS; i++) {
+            createOrder.run();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        return new Result(
+                (double) statistics.getPrepareStatementCount() / NUMBER_OF_ORDERS,
+                (double) statistics.getEntityInsertCount() / NUMBER_OF_ORDERS,
+                TimeUnit.NANOSECONDS.toMicros(elapsedNanos) / 1000.0 / NUMBER_OF_ORDERS);
+    }
+
+    private record Result(double statementsPerOrder, double insertsPerOrder, double millisPerOrder) {
+        @Override
+        public String toString() {
+            return String.format("주문당 SQL 문: %.1f, 주문당 INSERT 엔티티: %.1f, 주문당 지연 시간: %.2fms",
+                    statementsPerOrder, insertsPerOrder, millisPerOrder);
+        }
+    }
+}
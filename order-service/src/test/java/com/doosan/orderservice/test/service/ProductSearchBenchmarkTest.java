@@ -0,0 +1,127 @@
+package com.doosan.orderservice.test.service;
+
+import com.doosan.orderservice.test.config.TestKafkaConfig;
+import com.doosan.productservice.repository.ProductRepository;
+import com.doosan.productservice.service.ProductSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Import(TestKafkaConfig.class)
+@SpringBootTest(properties = "product.search.index.enabled=true")
+@ActiveProfiles("test")
+public class ProductSearchBenchmarkTest {
+
+    private static final String BENCHMARK_IMAGE = "search-benchmark.jpg"; // 벤치마크 상품 표시 (정리용)
+    private static final int INSERT_BATCH_SIZE = 5000;
+    private static final int NUMBER_OF_QUERIES = 50; // 검색어별 반복 횟수
+    private static final List<String> KEYWORDS = List.of("무선", "블루투스 이어폰", "가죽"); // 이름에만 들어가는 검색어
+    private static final String[] ADJECTIVES = {"무선", "블루투스", "가죽", "경량", "방수", "프리미엄", "미니", "대용량"};
+    private static final String[] NOUNS = {"이어폰", "키보드", "가방", "운동화", "텀블러", "노트북", "스피커", "지갑"};
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 상품 수별 LIKE 검색과 검색 인덱스 비교 (기본 10만 건, -Dbenchmark.product-counts=100000,1000000 으로 변경)
+    @Test
+    public void compareLikeQueryAndSearchIndex() {
+        int[] productCounts = Arrays.stream(System.getProperty("benchmark.product-counts", "100000").split(","))
+                .mapToInt(count -> Integer.parseInt(count.trim()))
+                .toArray();
+
+        long lastIdBefore = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM product", Long.class);
+        int inserted = 0;
+        for (int productCount : productCounts) {
+            insertProducts(inserted, productCount - inserted);
+            inserted = productCount;
+
+            long buildStart = System.nanoTime();
+            productSearchIndex.rebuild();
+            long buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - buildStart);
+
+            System.out.println("=== 상품 검색 벤치마크 (벤치마크 상품 " + productCount + "건, 인덱스 구축: " + buildMillis + "ms) ===");
+            for (String keyword : KEYWORDS) {
+                PageRequest pageRequest = PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "price"));
+
+                Page<Long> indexResult = productSearchIndex.search(keyword, null, pageRequest);
+
+                double likeMillis = measure(() -> productRepository.findByNameContaining(keyword, pageRequest));
+                double indexMillis = measure(() -> productSearchIndex.search(keyword, null, pageRequest));
+                System.out.printf("검색어 '%s' - 결과: %d건, LIKE: %.2fms, 인덱스: %.2fms%n",
+                        keyword, indexResult.getTotalElements(), likeMillis, indexMillis);
+
+                // 벤치마크 상품 중 같은 검색 결과 건수 (기존 상품은 설명에 검색어가 있을 수 있으므로 제외)
+                assertEquals(countLikeMatches(keyword), countIndexMatches(keyword, indexResult.getTotalElements(), lastIdBefore));
+            }
+        }
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        jdbcTemplate.update("DELETE FROM product WHERE image_url = ?", BENCHMARK_IMAGE);
+    }
+
+    // 벤치마크 상품 중 이름에 검색어가 들어간 상품 수 (벤치마크 상품 설명에는 검색어가 없음)
+    private long countLikeMatches(String keyword) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product WHERE image_url = ? AND name LIKE ?",
+                Long.class, BENCHMARK_IMAGE, "%" + keyword + "%");
+    }
+
+    // 검색 인덱스 결과 중 벤치마크 상품 수 (벤치마크 상품은 테스트 전 마지막 ID 이후에 추가됨)
+    private long countIndexMatches(String keyword, long total, long lastIdBefore) {
+        return productSearchIndex.search(keyword, null, PageRequest.of(0, (int) Math.max(1, total))).getContent().stream()
+                .filter(productId -> productId > lastIdBefore)
+                .count();
+    }
+
+    private void insertProducts(int from, int count) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> rows = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = from; i < from + count; i++) {
+            String name = ADJECTIVES[i % ADJECTIVES.length] + " " + NOUNS[(i / ADJECTIVES.length) % NOUNS.length] + " " + i;
+            rows.add(new Object[]{name, 1000L + (i * 7919L) % 100000, "벤치마크용 상품 " + i, "OTHER", BENCHMARK_IMAGE, 100L, now});
+            if (rows.size() == INSERT_BATCH_SIZE) {
+                insertBatch(rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            insertBatch(rows);
+        }
+    }
+
+    private void insertBatch(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product (name, price, description, category, image_url, quantity, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                rows);
+    }
+
+    private double measure(Runnable query) {
+        long start = System.nanoTime();
+        for (int i = 0; i < NUMBER_OF_QUERIES; i++) {
+            query.run();
+        }
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start) / 1000.0 / NUMBER_OF_QUERIES;
+    }
+}
@@ -0,0 +1,145 @@
+package com.doosan.orderservice.test.service;
+
+import com.doosan.orderservice.test.config.TestKafkaConfig;
+import com.doosan.productservice.service.ProductService;
+import com.doosan.productservice.service.ReactiveProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Import(TestKafkaConfig.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class ReactiveProductLoadTest {
+
+    private static final Long PRODUCT_ID = 100L; // 조회 대상 상품
+    private static final int CONCURRENT_READERS = 5000; // 동시 조회 수
+    private static final int BLOCKING_THREADS = 200; // 블로킹 방식 요청 스레드 수 (톰캣 기본 최대 스레드 수)
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ReactiveProductService reactiveProductService;
+
+    // 블로킹 조회(JPA)와 리액티브 조회(R2DBC)의 스레드 수, 지연 시간 비교
+    @Test
+    public void compareBlockingAndReactiveRead() throws InterruptedException {
+        // 연결 풀과 드라이버 준비
+        productService.getProduct(PRODUCT_ID);
+        reactiveProductService.getProduct(PRODUCT_ID).block();
+
+        Result blockingResult = runBlocking();
+        Result reactiveResult = runReactive();
+
+        // 결과 출력
+        System.out.println("=== 상품 조회 부하 테스트 (상품 ID: " + PRODUCT_ID + ", 동시 조회: " + CONCURRENT_READERS + ") ===");
+        System.out.println("블로킹 방식 - " + blockingResult);
+        System.out.println("리액티브 방식 - " + reactiveResult);
+
+        // 두 방식 모두 모든 조회 성공
+        assertEquals(CONCURRENT_READERS, blockingResult.success);
+        assertEquals(CONCURRENT_READERS, reactiveResult.success);
+    }
+
+    // 요청마다 스레드 하나가 조회가 끝날 때까지 대기
+    private Result runBlocking() throws InterruptedException {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(BLOCKING_THREADS);
+        CountDownLatch latch = new CountDownLatch(CONCURRENT_READERS);
+        AtomicInteger success = new AtomicInteger();
+        long[] latencies = new long[CONCURRENT_READERS];
+
+        long start = System.nanoTime();
+        for (int i = 0; i < CONCURRENT_READERS; i++) {
+            int index = i;
+            long requested = System.nanoTime();
+            executorService.submit(() -> {
+                try {
+                    productService.getProduct(PRODUCT_ID);
+                    success.incrementAndGet();
+                } catch (Exception e) {
+                    System.out.println("블로킹 조회 실패: " + e.getMessage());
+                } finally {
+                    latencies[index] = System.nanoTime() - requested;
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsed = System.nanoTime() - start;
+        executorService.shutdown();
+
+        return new Result(success.get(), elapsed, latencies, threads.getPeakThreadCount());
+    }
+
+    // 모든 조회를 한 번에 구독하고 결과는 드라이버 이벤트 루프에서 전달
+    private Result runReactive() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+
+        AtomicInteger success = new AtomicInteger();
+        long[] latencies = new long[CONCURRENT_READERS];
+
+        long start = System.nanoTime();
+        Flux.range(0, CONCURRENT_READERS)
+                .flatMap(index -> {
+                    long requested = System.nanoTime();
+                    return reactiveProductService.getProduct(PRODUCT_ID)
+                            .doOnNext(product -> success.incrementAndGet())
+                            .doOnError(e -> System.out.println("리액티브 조회 실패: " + e.getMessage()))
+                            .onErrorResume(e -> Mono.empty())
+                            .doFinally(signal -> latencies[index] = System.nanoTime() - requested);
+                }, CONCURRENT_READERS)
+                .blockLast(Duration.ofMinutes(5));
+        long elapsed = System.nanoTime() - start;
+
+        return new Result(success.get(), elapsed, latencies, threads.getPeakThreadCount());
+    }
+
+    private static class Result {
+        private final int success;
+        private final long elapsedNanos;
+        private final long[] latencies;
+        private final int peakThreads;
+
+        private Result(int success, long elapsedNanos, long[] latencies, int peakThreads) {
+            this.success = success;
+            this.elapsedNanos = elapsedNanos;
+            this.latencies = latencies;
+            this.peakThreads = peakThreads;
+        }
+
+        private double percentileMillis(double percentile) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return TimeUnit.NANOSECONDS.toMicros(sorted[Math.max(index, 0)]) / 1000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("성공: %d, 소요 시간: %dms, 최대 스레드 수: %d, p50: %.2fms, p99: %.2fms",
+                    success, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), peakThreads,
+                    percentileMillis(50), percentileMillis(99));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.doosan.orderservice.test.service;
+
+import com.doosan.orderservice.service.StockReservationService;
+import com.doosan.orderservice.test.config.TestKafkaConfig;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Import(TestKafkaConfig.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class StockReservationBenchmarkTest {
+
+    private static final Long HOT_PRODUCT_ID = 100L; // 경합 대상 상품
+    private static final String STOCK_KEY = "product:stock:" + HOT_PRODUCT_ID;
+    private static final long INITIAL_STOCK = 1000L; // 초기 재고
+    private static final int NUMBER_OF_REQUESTS = 2000; // 총 요청 수 (재고보다 많게 설정)
+    private static final int THREADS = 100; // 동시 요청 스레드 수
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    // 기존 락 방식과 스크립트 방식의 경합 성능 비교
+    @Test
+    public void compareLockAndScriptReservation() throws InterruptedException {
+        stockReservationService.setStock(HOT_PRODUCT_ID, INITIAL_STOCK);
+        Result lockResult = run(this::reserveWithLock);
+
+        stockReservationService.setStock(HOT_PRODUCT_ID, INITIAL_STOCK);
+        Result scriptResult = run(() -> stockReservationService.reserve(HOT_PRODUCT_ID, 1L).isReserved());
+
+        // 결과 출력
+        System.out.println("=== 재고 예약 경합 벤치마크 (상품 ID: " + HOT_PRODUCT_ID + ") ===");
+        System.out.println("총 요청 수: " + NUMBER_OF_REQUESTS + ", 스레드 수: " + THREADS + ", 초기 재고: " + INITIAL_STOCK);
+        System.out.println("락 방식    - " + lockResult);
+        System.out.println("스크립트 방식 - " + scriptResult);
+
+        // 스크립트 방식은 재고만큼만 성공해야 함 (초과 판매 없음)
+        assertEquals(INITIAL_STOCK, scriptResult.success);
+    }
+
+    // 기존 StockService 방식: 분산 락 획득 후 GET, SET
+    private boolean reserveWithLock() {
+        RLock lock = redissonClient.getLock("lock:" + STOCK_KEY);
+        try {
+            if (!lock.tryLock(5, 3, TimeUnit.SECONDS)) {
+                return false;
+            }
+            Object stockObj = redisTemplate.opsForValue().get(STOCK_KEY);
+            long currentStock = stockObj == null ? 0L : Long.parseLong(stockObj.toString());
+            if (currentStock < 1) {
+                return false;
+            }
+            redisTemplate.opsForValue().set(STOCK_KEY, (int) (currentStock - 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private Result run(ReservationCall call) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch latch = new CountDownLatch(NUMBER_OF_REQUESTS);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger fail = new AtomicInteger();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < NUMBER_OF_REQUESTS; i++) {
+            executorService.submit(() -> {
+                try {
+                    if (call.reserve()) {
+                        success.incrementAndGet();
+                    } else {
+                        fail.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    fail.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(5, TimeUnit.MINUTES);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        executorService.shutdown();
+
+        return new Result(success.get(), fail.get(), elapsedMillis);
+    }
+
+    @FunctionalInterface
+    private interface ReservationCall {
+        boolean reserve();
+    }
+
+    private record Result(long success, long fail, long elapsedMillis) {
+        @Override
+        public String toString() {
+            double throughput = elapsedMillis == 0 ? 0 : NUMBER_OF_REQUESTS * 1000.0 / elapsedMillis;
+            return String.format("성공: %d, 실패: %d, 소요 시간: %dms, 처리량: %.1f req/s",
+                    success, fail, elapsedMillis, throughput);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.doosan.productservice.config;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Option;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+// 리액티브 상품 조회용 R2DBC 연결 설정 (JPA와 같은 데이터베이스를 논블로킹 드라이버와 연결 풀로 사용)
+// 주소를 따로 지정하지 않으면 spring.datasource.url의 jdbc: 주소를 r2dbc: 주소로 바꿔 사용하고, 연결은 첫 조회 때 생성
+@Configuration
+public class R2dbcConfig {
+
+    @Value("${product.r2dbc.url:}")
+    private String url; // R2DBC 주소 (예: r2dbc:mysql://localhost:3306/christmas)
+
+    @Value("${spring.datasource.url:}")
+    private String jdbcUrl;
+
+    @Value("${spring.datasource.username:}")
+    private String username;
+
+    @Value("${spring.datasource.password:}")
+    private String password;
+
+    @Value("${product.r2dbc.pool.max-size:50}")
+    private int maxPoolSize; // 최대 연결 수 (요청 스레드 수와 무관하게 이 수만큼만 데이터베이스 연결 사용)
+
+    @Bean
+    public ConnectionFactory productConnectionFactory() {
+        String r2dbcUrl = StringUtils.hasText(url) ? url : toR2dbcUrl(jdbcUrl);
+        ConnectionFactoryOptions parsed = ConnectionFactoryOptions.parse(r2dbcUrl);
+        ConnectionFactoryOptions.Builder builder = parsed.mutate()
+                .option(ConnectionFactoryOptions.DRIVER, "pool")
+                .option(ConnectionFactoryOptions.PROTOCOL, (String) parsed.getRequiredValue(ConnectionFactoryOptions.DRIVER))
+                .option(Option.<Integer>valueOf("initialSize"), 0)
+                .option(Option.<Integer>valueOf("maxSize"), maxPoolSize);
+        if (!parsed.hasOption(ConnectionFactoryOptions.USER) && StringUtils.hasText(username)) {
+            builder.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (!parsed.hasOption(ConnectionFactoryOptions.PASSWORD) && StringUtils.hasText(password)) {
+            builder.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        ConnectionFactoryOptions options = builder.build();
+        return ConnectionFactories.get(options);
+    }
+
+    // jdbc:mysql://host:port/db?params → r2dbc:mysql://host:port/db (JDBC 전용 파라미터 제외)
+    private static String toR2dbcUrl(String jdbcUrl) {
+        String withoutParams = jdbcUrl.contains("?") ? jdbcUrl.substring(0, jdbcUrl.indexOf('?')) : jdbcUrl;
+        return withoutParams.replaceFirst("^jdbc:", "r2dbc:");
+    }
+}
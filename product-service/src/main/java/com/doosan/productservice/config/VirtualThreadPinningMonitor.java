@@ -0,0 +1,73 @@
+package com.doosan.productservice.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// 가상 스레드 고정(pinning) 감지 (JFR jdk.VirtualThreadPinned 이벤트 구독)
+// synchronized 블록 안에서 블로킹(JDBC 드라이버, 커넥션 풀 등)되면 가상 스레드가 캐리어 스레드를 놓지 못하므로
+// 기준 시간 이상 고정된 경우 호출 위치를 경고 로그로 남김 (spring.threads.virtual.enabled=true 이고 JDK 21 이상일 때만 등록)
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8; // 로그에 남길 호출 스택 깊이
+
+    @Value("${execution.virtual-threads.pinning-threshold-ms:20}")
+    private long pinningThresholdMs; // 이 시간 이상 고정된 경우만 기록
+
+    private final AtomicLong pinnedCount = new AtomicLong();
+    private RecordingStream recordingStream;
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(pinningThresholdMs))
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("가상 스레드 고정 감지 시작 - 기준: {}ms", pinningThresholdMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        long count = pinnedCount.incrementAndGet();
+        log.warn("가상 스레드 고정 감지 - 스레드: {}, 고정 시간: {}ms, 누적: {}회\n{}",
+                event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+                event.getDuration().toMillis(), count, describe(event));
+    }
+
+    private String describe(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "\t(호출 스택 없음)";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
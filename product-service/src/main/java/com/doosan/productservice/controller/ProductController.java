@@ -1,11 +1,15 @@
 package com.doosan.productservice.controller;
 
 import com.doosan.common.dto.ResponseDto;
+import com.doosan.common.enums.ApiResponse;
 import com.doosan.common.enums.ProductCategory;
+import com.doosan.productservice.dto.ProductDetailCacheMetrics;
 import com.doosan.productservice.dto.ProductResponse;
+import com.doosan.productservice.service.ProductDetailCache;
+import com.doosan.productservice.service.ProductResponseCache;
 import com.doosan.productservice.service.ProductService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -16,6 +20,8 @@ import org.springframework.web.bind.annotation.*;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductDetailCache productDetailCache;
+    private final ProductResponseCache productResponseCache;
 
     /**
      * 모든 상품 조회 API
@@ -25,24 +31,46 @@ public class ProductController {
      * @param category 상품 카테고리 (선택 사항)
      * @param keyword  검색 키워드 (선택 사항)
      * @param sort     정렬 기준 (기본값: id)
-     * @return 상품 목록과 응답 상태를 포함한 ResponseEntity
+     * @param ifNoneMatch 이전 응답의 ETag (같으면 304 응답)
+     * @return 상품 목록과 응답 상태를 포함한 ResponseEntity (검색어 없는 목록은 캐시된 JSON 바이트일 수 있음)
      */
     @GetMapping
-    public ResponseEntity<ResponseDto<Page<ProductResponse>>> getProducts(
+    public ResponseEntity<?> getProducts(
             @RequestParam(defaultValue = "0") int page, // 페이지 번호
             @RequestParam(defaultValue = "10") int size, // 페이지 크기
             @RequestParam(required = false) ProductCategory category, // 상품 카테고리 (옵션)
             @RequestParam(required = false) String keyword, // 검색 키워드 (옵션)
-            @RequestParam(defaultValue = "id") String sort) { // 정렬 기준
+            @RequestParam(defaultValue = "id") String sort, // 정렬 기준
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (keyword == null) {
+            return productResponseCache.getProducts(category, sort, page, size, ifNoneMatch,
+                    () -> productService.getProductsWithResponse(page, size, category, null, sort));
+        }
         return productService.getProductsWithResponse(page, size, category, keyword, sort);
     }
 
     /**
-     * 특정 상품 조회 API
+     * 특정 상품 조회 API (캐시된 응답은 ETag 포함, If-None-Match가 같으면 304 응답)
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ResponseDto<ProductResponse>> getProduct(@PathVariable Long id) {
-        return productService.getProduct(id);
+    public ResponseEntity<?> getProduct(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return productResponseCache.getProduct(id, ifNoneMatch, () -> productService.getProduct(id));
+    }
+
+    /**
+     * 상품 상세 캐시 지표 조회 API (적중률, MySQL 조회 시간)
+     */
+    @GetMapping("/cache/metrics")
+    public ResponseEntity<ResponseDto<ProductDetailCacheMetrics>> getDetailCacheMetrics() {
+        return ResponseEntity.ok(
+                ResponseDto.<ProductDetailCacheMetrics>builder()
+                        .statusCode(HttpStatus.OK.value())
+                        .resultMessage(ApiResponse.SEARCH_COMPLETE)
+                        .data(productDetailCache.getMetrics())
+                        .build()
+        );
     }
 
     // circuitBreaker 테스트 용 에러 발생 api
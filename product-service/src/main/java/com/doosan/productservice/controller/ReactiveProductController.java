@@ -0,0 +1,77 @@
+package com.doosan.productservice.controller;
+
+import com.doosan.common.dto.ResponseDto;
+import com.doosan.common.enums.ApiResponse;
+import com.doosan.common.enums.ProductCategory;
+import com.doosan.productservice.dto.ProductResponse;
+import com.doosan.productservice.service.ReactiveProductService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/products/reactive")
+@RequiredArgsConstructor
+public class ReactiveProductController {
+
+    private final ReactiveProductService reactiveProductService;
+
+    /**
+     * 상품 목록 조회 API (R2DBC 논블로킹 조회, 조건과 정렬은 기존 목록 조회와 동일)
+     */
+    @GetMapping
+    public Mono<ResponseEntity<ResponseDto<Page<ProductResponse>>>> getProducts(
+            @RequestParam(defaultValue = "0") int page, // 페이지 번호
+            @RequestParam(defaultValue = "10") int size, // 페이지 크기
+            @RequestParam(required = false) ProductCategory category, // 상품 카테고리 (옵션)
+            @RequestParam(required = false) String keyword, // 검색 키워드 (옵션)
+            @RequestParam(defaultValue = "id") String sort) { // 정렬 기준
+        return reactiveProductService.getProducts(page, size, category, keyword, sort)
+                .map(products -> ResponseEntity.ok(
+                        ResponseDto.<Page<ProductResponse>>builder()
+                                .statusCode(HttpStatus.OK.value())
+                                .resultMessage(ApiResponse.SEARCH_COMPLETE)
+                                .data(products)
+                                .build()));
+    }
+
+    /**
+     * 특정 상품 조회 API (R2DBC 논블로킹 조회)
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ResponseDto<ProductResponse>>> getProduct(@PathVariable Long id) {
+        return reactiveProductService.getProduct(id)
+                .map(product -> ResponseEntity.ok(
+                        ResponseDto.<ProductResponse>builder()
+                                .statusCode(HttpStatus.OK.value())
+                                .resultMessage(ApiResponse.SEARCH_COMPLETE)
+                                .data(product)
+                                .build()))
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ResponseDto.<ProductResponse>builder()
+                                .statusCode(HttpStatus.NOT_FOUND.value())
+                                .resultMessage(ApiResponse.SEARCH_ERROR)
+                                .detailMessage("상품 조회 실패한 ID: " + id)
+                                .build()));
+    }
+
+    /**
+     * 여러 상품 가격 일괄 조회 API (R2DBC 논블로킹 조회)
+     */
+    @GetMapping("/prices")
+    public Mono<ResponseEntity<ResponseDto<Map<Long, Long>>>> getBulkProductPrices(@RequestParam List<Long> ids) {
+        return reactiveProductService.getBulkProductPrices(ids)
+                .map(prices -> ResponseEntity.ok(
+                        ResponseDto.<Map<Long, Long>>builder()
+                                .statusCode(HttpStatus.OK.value())
+                                .resultMessage(ApiResponse.COMPLETE)
+                                .data(prices)
+                                .build()));
+    }
+}
@@ -6,13 +6,19 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
 
 @Entity
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "product")
+@Table(name = "product", indexes = {
+        // 검색 인덱스 변경분 조회 (updatedAt 이후 변경된 상품)
+        @Index(name = "idx_product_updated_at", columnList = "updatedAt")
+})
 public class Product {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -34,4 +40,7 @@ public class Product {
     
     @Column(nullable = false)
     private Long quantity;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt; // 마지막 변경 시각 (검색 인덱스 변경분 반영용)
 }
\ No newline at end of file
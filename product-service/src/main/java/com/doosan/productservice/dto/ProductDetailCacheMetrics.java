@@ -0,0 +1,28 @@
+package com.doosan.productservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductDetailCacheMetrics {
+    private boolean enabled; // 상품 상세 캐시 사용 여부
+    private boolean redisEnabled; // Redis 2차 캐시 사용 여부
+    private int size; // 현재 로컬 캐시 항목 수
+    private int maxSize; // 로컬 캐시 최대 항목 수
+    private long localHits; // 로컬 캐시 적중 횟수
+    private long redisHits; // Redis 캐시 적중 횟수
+    private long misses; // 두 캐시 모두 없어 조회를 기다린 횟수
+    private double hitRate; // 로컬 + Redis 적중률
+    private long loads; // MySQL 조회 횟수
+    private long loadFailures; // MySQL 조회 실패 횟수 (없는 상품 포함)
+    private double averageLoadMillis; // 평균 MySQL 조회 시간
+    private double maxLoadMillis; // 최대 MySQL 조회 시간
+    private long coalescedLoads; // 진행 중인 조회에 합쳐진 요청 수
+    private long earlyRefreshes; // 만료 전 조기 갱신 횟수
+    private long evictions; // 최대 크기 초과로 제거된 항목 수
+}
@@ -0,0 +1,8 @@
+package com.doosan.productservice.repository;
+
+// 상품 ID와 이름만 조회하는 프로젝션
+public interface ProductNameView {
+    Long getId();
+
+    String getName();
+}
@@ -0,0 +1,8 @@
+package com.doosan.productservice.repository;
+
+// 상품 ID와 가격만 조회하는 프로젝션 (엔티티 전체를 읽지 않음)
+public interface ProductPriceView {
+    Long getId();
+
+    Long getPrice();
+}
@@ -5,8 +5,14 @@ import com.doosan.productservice.domain.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
@@ -19,4 +25,21 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      // 특정 카테고리에 속하면서 이름에 특정 키워드가 포함된 상품들을 페이징하여 조회
     Page<Product> findByCategoryAndNameContaining(ProductCategory category, String keyword, Pageable pageable);
 
+     // 특정 카테고리에 속한 상품 전체 조회 (재고 사전 적재용)
+    List<Product> findAllByCategory(ProductCategory category);
+
+     // 여러 상품의 가격만 한 번의 IN 쿼리로 조회
+    @Query("select p.id as id, p.price as price from Product p where p.id in :ids")
+    List<ProductPriceView> findPricesByIdIn(@Param("ids") Collection<Long> ids);
+
+     // 여러 상품의 이름만 한 번의 IN 쿼리로 조회
+    @Query("select p.id as id, p.name as name from Product p where p.id in :ids")
+    List<ProductNameView> findNamesByIdIn(@Param("ids") Collection<Long> ids);
+
+     // 특정 ID 이후 상품을 ID 순으로 조회 (검색 인덱스 전체 구축용)
+    List<Product> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+     // 특정 시각 이후 변경된 상품 조회 (검색 인덱스 변경분 반영용)
+    List<Product> findByUpdatedAtAfter(LocalDateTime updatedAt);
+
 }
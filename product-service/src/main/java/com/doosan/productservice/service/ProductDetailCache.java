@@ -0,0 +1,351 @@
+package com.doosan.productservice.service;
+
+import com.doosan.productservice.dto.ProductDetailCacheMetrics;
+import com.doosan.productservice.dto.ProductResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.Supplier;
+
+// 상품 상세 2단계 캐시 (로컬 LRU → Redis → MySQL 순으로 조회하고 조회 결과를 두 캐시에 저장)
+// 같은 상품의 동시 미스는 인스턴스 안에서는 하나의 조회로 합치고, 인스턴스 간에는 Redis 적재 락으로 한 곳만 MySQL을 조회
+// 만료 직전에는 조회 시간에 비례한 확률로 미리 비동기 갱신해 만료 순간 요청이 한꺼번에 MySQL로 몰리지 않게 함
+@Component
+@RequiredArgsConstructor
+public class ProductDetailCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductDetailCache.class);
+
+    private static final String CACHE_KEY_PREFIX = "product:detail:";
+    private static final String LOADING_KEY_PREFIX = "product:detail:loading:";
+    private static final long LOAD_WAIT_POLL_MILLIS = 20L; // 다른 인스턴스 적재 대기 중 Redis 확인 간격
+
+    // 적재 락 해제 (자신이 잡은 락만 삭제)
+    private static final RedisScript<Long> RELEASE_LOAD_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${product.detail-cache.enabled:false}")
+    private boolean enabled; // 비활성화 시 매번 MySQL 조회
+
+    @Value("${product.detail-cache.redis-enabled:true}")
+    private boolean redisEnabled; // Redis 2차 캐시 사용 여부
+
+    @Value("${product.detail-cache.max-size:10000}")
+    private int maxSize; // 로컬 캐시 최대 항목 수
+
+    @Value("${product.detail-cache.ttl-ms:60000}")
+    private long ttlMillis; // 캐시 유지 시간 (Redis 기준)
+
+    @Value("${product.detail-cache.local-ttl-ms:5000}")
+    private long localTtlMillis; // 로컬 캐시 유지 시간 (다른 인스턴스의 갱신을 반영하는 최대 지연)
+
+    @Value("${product.detail-cache.early-refresh-beta:1.0}")
+    private double earlyRefreshBeta; // 조기 갱신 강도 (클수록 만료 전에 더 일찍 갱신)
+
+    @Value("${product.detail-cache.load-lock-ms:2000}")
+    private long loadLockMillis; // 적재 락 유지 시간 (다른 인스턴스가 적재를 기다리는 최대 시간)
+
+    private final AtomicLong localHits = new AtomicLong();
+    private final AtomicLong redisHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong loadFailures = new AtomicLong();
+    private final AtomicLong totalLoadNanos = new AtomicLong();
+    private final LongAccumulator maxLoadNanos = new LongAccumulator(Long::max, 0L);
+    private final AtomicLong coalescedLoads = new AtomicLong();
+    private final AtomicLong earlyRefreshes = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final Map<Long, CompletableFuture<CachedDetail>> loading = new ConcurrentHashMap<>(); // 상품별 진행 중인 조회
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>(); // 상품별 제거 횟수 (제거 전에 시작한 조회 결과는 저장하지 않음)
+
+    private final ExecutorService refreshExecutor = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "product-detail-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 접근 순서 LRU (최대 크기를 넘으면 가장 오래 사용하지 않은 항목 제거)
+    private final Map<Long, LocalEntry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, LocalEntry> eldest) {
+            if (size() > maxSize) {
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    // 캐시된 상품 상세 (없으면 loader로 조회, loader 예외는 그대로 전달하고 캐시하지 않음)
+    public ProductResponse get(Long productId, Supplier<ProductResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        CachedDetail cached = readLocal(productId);
+        if (cached != null) {
+            localHits.incrementAndGet();
+        } else if (redisEnabled && (cached = readRedis(productId)) != null) {
+            redisHits.incrementAndGet();
+            writeLocal(productId, cached);
+        }
+
+        if (cached != null) {
+            if (shouldRefreshEarly(cached)) {
+                earlyRefreshes.incrementAndGet();
+                load(productId, loader, true); // 현재 값을 응답하고 백그라운드에서 갱신
+            }
+            return cached.product();
+        }
+
+        misses.incrementAndGet();
+        try {
+            return load(productId, loader, false).join().product();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 상품 변경 시 캐시 제거
+    public void evict(Long productId) {
+        versions.merge(productId, 1L, Long::sum);
+        synchronized (entries) {
+            entries.remove(productId);
+        }
+        if (redisEnabled) {
+            try {
+                stringRedisTemplate.delete(CACHE_KEY_PREFIX + productId);
+            } catch (Exception e) {
+                log.error("상품 상세 캐시 Redis 제거 실패 - 상품: {}", productId, e);
+            }
+        }
+    }
+
+    public ProductDetailCacheMetrics getMetrics() {
+        long hitCount = localHits.get() + redisHits.get();
+        long lookups = hitCount + misses.get();
+        long loadCount = loads.get();
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return ProductDetailCacheMetrics.builder()
+                .enabled(enabled)
+                .redisEnabled(redisEnabled)
+                .size(size)
+                .maxSize(maxSize)
+                .localHits(localHits.get())
+                .redisHits(redisHits.get())
+                .misses(misses.get())
+                .hitRate(lookups == 0 ? 0 : (double) hitCount / lookups)
+                .loads(loadCount)
+                .loadFailures(loadFailures.get())
+                .averageLoadMillis(loadCount == 0 ? 0 : totalLoadNanos.get() / 1_000_000.0 / loadCount)
+                .maxLoadMillis(maxLoadNanos.get() / 1_000_000.0)
+                .coalescedLoads(coalescedLoads.get())
+                .earlyRefreshes(earlyRefreshes.get())
+                .evictions(evictions.get())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    // 만료 시각 - 조회 시간 * beta * ln(난수) 가 지났으면 갱신 (조회가 오래 걸리는 상품일수록 일찍 갱신)
+    private boolean shouldRefreshEarly(CachedDetail cached) {
+        double random = ThreadLocalRandom.current().nextDouble();
+        double earlyMillis = -cached.loadMillis() * earlyRefreshBeta * Math.log(random);
+        return System.currentTimeMillis() + earlyMillis >= cached.expiresAt();
+    }
+
+    // 같은 상품의 조회를 하나로 합침 (이미 진행 중이면 그 결과를 함께 기다림)
+    private CompletableFuture<CachedDetail> load(Long productId, Supplier<ProductResponse> loader, boolean async) {
+        CompletableFuture<CachedDetail> future = new CompletableFuture<>();
+        CompletableFuture<CachedDetail> existing = loading.putIfAbsent(productId, future);
+        if (existing != null) {
+            coalescedLoads.incrementAndGet();
+            return existing;
+        }
+
+        Runnable task = () -> {
+            try {
+                future.complete(loadOnce(productId, loader));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                loading.remove(productId, future);
+            }
+        };
+        if (async) {
+            refreshExecutor.execute(task);
+        } else {
+            task.run();
+        }
+        return future;
+    }
+
+    private CachedDetail loadOnce(Long productId, Supplier<ProductResponse> loader) {
+        String lockToken = null;
+        if (redisEnabled) {
+            lockToken = tryAcquireLoadLock(productId);
+            if (lockToken == null) {
+                CachedDetail loadedElsewhere = waitForOtherLoader(productId);
+                if (loadedElsewhere != null) {
+                    writeLocal(productId, loadedElsewhere);
+                    return loadedElsewhere;
+                }
+            }
+        }
+
+        try {
+            long version = versions.getOrDefault(productId, 0L);
+            long start = System.nanoTime();
+            ProductResponse product;
+            try {
+                product = loader.get();
+            } catch (RuntimeException e) {
+                loadFailures.incrementAndGet();
+                throw e;
+            }
+            long loadNanos = System.nanoTime() - start;
+            loads.incrementAndGet();
+            totalLoadNanos.addAndGet(loadNanos);
+            maxLoadNanos.accumulate(loadNanos);
+
+            long expiresAt = System.currentTimeMillis() + (redisEnabled ? ttlMillis : Math.min(ttlMillis, localTtlMillis));
+            CachedDetail detail = new CachedDetail(product, Math.max(1L, loadNanos / 1_000_000), expiresAt);
+            if (redisEnabled) {
+                writeRedis(productId, detail);
+            }
+            writeLocal(productId, detail);
+            if (versions.getOrDefault(productId, 0L) != version) {
+                evict(productId); // 조회 중 상품이 변경됨 (이번 결과만 응답하고 저장한 값은 제거)
+            }
+            return detail;
+        } finally {
+            if (lockToken != null) {
+                releaseLoadLock(productId, lockToken);
+            }
+        }
+    }
+
+    private String tryAcquireLoadLock(Long productId) {
+        try {
+            String token = UUID.randomUUID().toString();
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(LOADING_KEY_PREFIX + productId, token, Duration.ofMillis(loadLockMillis));
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (Exception e) {
+            log.error("상품 상세 적재 락 획득 실패 - 상품: {}", productId, e);
+            return null;
+        }
+    }
+
+    private void releaseLoadLock(Long productId, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_LOAD_LOCK_SCRIPT, List.of(LOADING_KEY_PREFIX + productId), token);
+        } catch (Exception e) {
+            log.error("상품 상세 적재 락 해제 실패 - 상품: {}", productId, e);
+        }
+    }
+
+    // 다른 인스턴스가 적재 중이면 락 유지 시간 안에서 Redis에 값이 들어올 때까지 대기 (시간 초과 시 직접 조회)
+    private CachedDetail waitForOtherLoader(Long productId) {
+        long deadline = System.currentTimeMillis() + loadLockMillis;
+        while (System.currentTimeMillis() < deadline) {
+            CachedDetail cached = readRedis(productId);
+            if (cached != null) {
+                return cached;
+            }
+            try {
+                Thread.sleep(LOAD_WAIT_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private CachedDetail readLocal(Long productId) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            LocalEntry entry = entries.get(productId);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.localExpiresAt() <= now) {
+                entries.remove(productId);
+                return null;
+            }
+            return entry.detail();
+        }
+    }
+
+    private void writeLocal(Long productId, CachedDetail detail) {
+        long localExpiresAt = Math.min(detail.expiresAt(), System.currentTimeMillis() + localTtlMillis);
+        synchronized (entries) {
+            entries.put(productId, new LocalEntry(detail, localExpiresAt));
+        }
+    }
+
+    private CachedDetail readRedis(Long productId) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(CACHE_KEY_PREFIX + productId);
+            return json == null ? null : objectMapper.readValue(json, CachedDetail.class);
+        } catch (Exception e) {
+            log.error("상품 상세 캐시 Redis 조회 실패 - 상품: {}", productId, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(Long productId, CachedDetail detail) {
+        try {
+            long remainingMillis = detail.expiresAt() - System.currentTimeMillis();
+            if (remainingMillis > 0) {
+                stringRedisTemplate.opsForValue().set(CACHE_KEY_PREFIX + productId,
+                        objectMapper.writeValueAsString(detail), Duration.ofMillis(remainingMillis));
+            }
+        } catch (Exception e) {
+            log.error("상품 상세 캐시 Redis 저장 실패 - 상품: {}", productId, e);
+        }
+    }
+
+    // 캐시 값 (조회 소요 시간과 만료 시각을 함께 저장해 인스턴스 간에도 조기 갱신 확률을 같게 계산)
+    record CachedDetail(ProductResponse product, long loadMillis, long expiresAt) {
+    }
+
+    private record LocalEntry(CachedDetail detail, long localExpiresAt) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.doosan.productservice.service;
+
+import com.doosan.common.dto.ResponseDto;
+import com.doosan.common.enums.ProductCategory;
+import com.doosan.common.utils.ResponseBodyCache;
+import com.doosan.productservice.dto.ProductResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+// 상품 조회 응답 캐시 (상품 상세, 검색어 없는 상품 목록의 성공 응답을 직렬화된 JSON 바이트와 ETag로 저장)
+// 목록은 (카테고리, 정렬, 페이지, 크기)별로 저장하고 유지 시간을 짧게 두어 재고 수량 표시 지연을 제한
+// 적중 시 조회와 Jackson 직렬화를 모두 건너뛰고, If-None-Match가 같으면 본문 없이 304 응답
+@Component
+@RequiredArgsConstructor
+public class ProductResponseCache {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${product.listing-cache.enabled:false}")
+    private boolean listingEnabled; // 비활성화 시 매번 조회 후 직렬화
+
+    @Value("${product.listing-cache.ttl-ms:2000}")
+    private long listingTtlMillis; // 목록 페이지 유지 시간
+
+    @Value("${product.listing-cache.max-size:1000}")
+    private int listingMaxSize; // 최대 저장 목록 페이지 수
+
+    @Value("${product.response-cache.enabled:false}")
+    private boolean detailEnabled; // 상품 상세 응답 캐시 사용 여부
+
+    @Value("${product.response-cache.ttl-ms:5000}")
+    private long detailTtlMillis; // 상품 상세 응답 유지 시간
+
+    @Value("${product.response-cache.max-size:10000}")
+    private int detailMaxSize; // 최대 저장 상품 상세 응답 수
+
+    private ResponseBodyCache listings;
+    private ResponseBodyCache details;
+
+    @PostConstruct
+    public void init() {
+        listings = new ResponseBodyCache(objectMapper, listingMaxSize, listingTtlMillis);
+        details = new ResponseBodyCache(objectMapper, detailMaxSize, detailTtlMillis);
+    }
+
+    // 검색어 없는 상품 목록 응답
+    public ResponseEntity<?> getProducts(ProductCategory category, String sort, int page, int size, String ifNoneMatch,
+                                         Supplier<ResponseEntity<ResponseDto<Page<ProductResponse>>>> loader) {
+        if (!listingEnabled) {
+            return loader.get();
+        }
+        String key = (category == null ? "ALL" : category.name()) + ":" + sort.toLowerCase(Locale.ROOT) + ":" + page + ":" + size;
+        return listings.get(key, ifNoneMatch, loader);
+    }
+
+    // 상품 상세 응답
+    public ResponseEntity<?> getProduct(Long productId, String ifNoneMatch,
+                                        Supplier<ResponseEntity<ResponseDto<ProductResponse>>> loader) {
+        if (!detailEnabled) {
+            return loader.get();
+        }
+        return details.get(String.valueOf(productId), ifNoneMatch, loader);
+    }
+
+    // 상품 정보 변경 시 해당 상품 상세와 전체 목록 무효화 (가격/이름 정렬 순서가 바뀔 수 있으므로 카테고리와 관계없이 전체)
+    public void onProductChanged(Long productId) {
+        if (productId == null) {
+            details.invalidateAll();
+        } else {
+            details.evict(String.valueOf(productId));
+        }
+        listings.invalidateAll();
+    }
+
+    // 재고만 변경된 경우 해당 상품 상세만 무효화 (목록의 재고 표시는 목록 유지 시간만큼 지연 허용)
+    public void onStockChanged(Long productId) {
+        details.evict(String.valueOf(productId));
+    }
+}
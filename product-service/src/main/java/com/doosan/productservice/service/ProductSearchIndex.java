@@ -0,0 +1,357 @@
+package com.doosan.productservice.service;
+
+import com.doosan.common.enums.ProductCategory;
+import com.doosan.productservice.domain.Product;
+import com.doosan.productservice.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 상품 검색 인덱스 (상품 이름과 설명의 1~2글자 n-gram 역색인, LIKE '%검색어%' 전체 스캔 대체)
+// 검색어의 n-gram 목록을 교집합해 후보를 좁힌 뒤 원문 포함 여부를 확인하므로 결과는 부분 문자열 검색과 같음
+// 변경된 상품(updatedAt)만 주기적으로 다시 색인하고, 삭제 표시가 쌓이거나 전체 재색인 주기가 되면 새로 구축
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSearchIndex.class);
+
+    private static final int BUILD_BATCH_SIZE = 10_000; // 전체 구축 시 한 번에 읽는 상품 수
+    private static final long SYNC_SKEW_MILLIS = 1_000L; // 변경 감지 여유 시간 (트랜잭션 커밋 지연 보정)
+    private static final double MAX_DELETED_RATIO = 0.3; // 삭제 표시 비율이 넘으면 전체 재구축
+
+    private final ProductRepository productRepository; // 상품 레포지토리
+
+    @Value("${product.search.index.enabled:false}")
+    private boolean enabled; // 비활성화 시 기존 LIKE 검색 사용
+
+    @Value("${product.search.index.full-rebuild-interval-ms:3600000}")
+    private long fullRebuildIntervalMillis; // 전체 재구축 주기 (삭제된 상품 정리)
+
+    private volatile Index index; // 현재 검색 인덱스 (구축 전에는 null)
+    private volatile LocalDateTime lastSyncedAt; // 마지막으로 반영한 변경 시각
+    private volatile long lastFullBuildAt; // 마지막 전체 구축 시각
+
+    public boolean isReady() {
+        return enabled && index != null;
+    }
+
+    // 주기적으로 변경된 상품만 다시 색인 (최초 실행 시 전체 구축)
+    @Scheduled(fixedDelayString = "${product.search.index.refresh-interval-ms:5000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Index current = index;
+            if (current == null
+                    || System.currentTimeMillis() - lastFullBuildAt > fullRebuildIntervalMillis
+                    || current.deletedRatio() > MAX_DELETED_RATIO) {
+                rebuild();
+                return;
+            }
+
+            LocalDateTime syncStartedAt = LocalDateTime.now();
+            List<Product> changed = productRepository.findByUpdatedAtAfter(lastSyncedAt.minusNanos(SYNC_SKEW_MILLIS * 1_000_000));
+            changed.forEach(current::put);
+            lastSyncedAt = syncStartedAt;
+            if (!changed.isEmpty()) {
+                log.info("상품 검색 인덱스 갱신 완료. 변경 상품 수: {}", changed.size());
+            }
+        } catch (Exception e) {
+            log.error("상품 검색 인덱스 갱신 실패", e);
+        }
+    }
+
+    // 전체 구축 (새 인덱스를 만든 뒤 교체하므로 구축 중에도 이전 인덱스로 검색)
+    public synchronized void rebuild() {
+        LocalDateTime buildStartedAt = LocalDateTime.now();
+        long start = System.currentTimeMillis();
+        Index built = new Index();
+        long lastId = 0L;
+        List<Product> batch;
+        do {
+            batch = productRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, BUILD_BATCH_SIZE));
+            batch.forEach(built::put);
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == BUILD_BATCH_SIZE);
+
+        index = built;
+        lastSyncedAt = buildStartedAt;
+        lastFullBuildAt = System.currentTimeMillis();
+        log.info("상품 검색 인덱스 구축 완료. 상품 수: {}, n-gram 수: {}, 소요 시간: {}ms",
+                built.size(), built.gramCount(), lastFullBuildAt - start);
+    }
+
+    // 상품 변경/삭제 즉시 반영 (다음 주기를 기다리지 않을 때 사용)
+    public void put(Product product) {
+        Index current = index;
+        if (current != null) {
+            current.put(product);
+        }
+    }
+
+    public void remove(Long productId) {
+        Index current = index;
+        if (current != null) {
+            current.remove(productId);
+        }
+    }
+
+    // 검색어가 이름 또는 설명에 포함된 상품 ID 페이지 (카테고리 필터, createSort 정렬 기준 지원)
+    public Page<Long> search(String keyword, ProductCategory category, Pageable pageable) {
+        Index current = index;
+        if (current == null) {
+            throw new IllegalStateException("상품 검색 인덱스가 아직 구축되지 않았습니다.");
+        }
+        return current.search(normalize(keyword), category, pageable);
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    // 글자/숫자 구간마다 1글자, 2글자 n-gram 생성 (한글은 형태소 분석 없이 음절 단위로 색인)
+    static Set<String> grams(String normalized, boolean query) {
+        Set<String> grams = new LinkedHashSet<>();
+        int length = normalized.length();
+        int start = 0;
+        while (start < length) {
+            while (start < length && !Character.isLetterOrDigit(normalized.charAt(start))) {
+                start++;
+            }
+            int end = start;
+            while (end < length && Character.isLetterOrDigit(normalized.charAt(end))) {
+                end++;
+            }
+            if (end - start == 1 || (!query && end > start)) {
+                for (int i = start; i < end; i++) {
+                    grams.add(normalized.substring(i, i + 1));
+                }
+            }
+            for (int i = start; i + 2 <= end; i++) {
+                grams.add(normalized.substring(i, i + 2));
+            }
+            start = end;
+        }
+        return grams;
+    }
+
+    // 색인 문서 (정렬 필드와 포함 여부 확인용 원문)
+    private record Doc(long productId, long price, String name, String sortName, ProductCategory category, String text) {
+    }
+
+    // 역색인 본체 (문서 번호는 추가 순서대로 증가하므로 n-gram별 문서 목록은 항상 정렬 상태)
+    private static final class Index {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<String, IntList> postings = new HashMap<>();
+        private final List<Doc> docs = new ArrayList<>();
+        private final Map<Long, Integer> docByProductId = new HashMap<>();
+        private final BitSet deleted = new BitSet();
+
+        void put(Product product) {
+            String name = normalize(product.getName());
+            String text = product.getDescription() == null ? name : name + "\n" + normalize(product.getDescription());
+            lock.writeLock().lock();
+            try {
+                Integer existing = docByProductId.get(product.getId());
+                if (existing != null) {
+                    Doc doc = docs.get(existing);
+                    if (doc.text().equals(text) && doc.price() == product.getPrice()
+                            && doc.category() == product.getCategory() && doc.sortName().equals(product.getName())) {
+                        return; // 재고만 바뀐 경우 등 색인 대상 필드가 같으면 건너뜀
+                    }
+                    deleted.set(existing);
+                }
+
+                int docId = docs.size();
+                docs.add(new Doc(product.getId(), product.getPrice(), name, product.getName(), product.getCategory(), text));
+                docByProductId.put(product.getId(), docId);
+                for (String gram : grams(text, false)) {
+                    postings.computeIfAbsent(gram, key -> new IntList()).add(docId);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long productId) {
+            lock.writeLock().lock();
+            try {
+                Integer existing = docByProductId.remove(productId);
+                if (existing != null) {
+                    deleted.set(existing);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        Page<Long> search(String keyword, ProductCategory category, Pageable pageable) {
+            Set<String> queryGrams = grams(keyword, true);
+            lock.readLock().lock();
+            try {
+                int[] candidates = candidates(queryGrams);
+                List<Integer> matched = new ArrayList<>();
+                for (int docId : candidates) {
+                    Doc doc = docs.get(docId);
+                    if (!deleted.get(docId)
+                            && (category == null || doc.category() == category)
+                            && doc.text().contains(keyword)) {
+                        matched.add(docId);
+                    }
+                }
+
+                Comparator<Integer> order = comparator(pageable.getSort());
+                int limit = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), matched.size());
+                List<Long> content = new ArrayList<>(pageable.getPageSize());
+                for (int docId : top(matched, order, limit).subList((int) Math.min(pageable.getOffset(), limit), limit)) {
+                    content.add(docs.get(docId).productId());
+                }
+                return new PageImpl<>(content, pageable, matched.size());
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // n-gram별 문서 목록 교집합 (짧은 목록부터 차례로 좁힘, 검색어에 글자가 없으면 전체 문서)
+        private int[] candidates(Set<String> queryGrams) {
+            if (queryGrams.isEmpty()) {
+                int[] all = new int[docs.size()];
+                Arrays.setAll(all, i -> i);
+                return all;
+            }
+            List<IntList> lists = new ArrayList<>(queryGrams.size());
+            for (String gram : queryGrams) {
+                IntList list = postings.get(gram);
+                if (list == null) {
+                    return new int[0];
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(IntList::size));
+
+            int[] result = lists.get(0).toArray();
+            for (int i = 1; i < lists.size() && result.length > 0; i++) {
+                result = lists.get(i).intersect(result);
+            }
+            return result;
+        }
+
+        // 상위 limit건만 정렬 (앞쪽 페이지는 전체 정렬 없이 힙으로 선택)
+        private List<Integer> top(List<Integer> matched, Comparator<Integer> order, int limit) {
+            if (limit >= matched.size() / 2) {
+                matched.sort(order);
+                return matched.subList(0, limit);
+            }
+            PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, order.reversed());
+            for (int docId : matched) {
+                heap.offer(docId);
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+            List<Integer> top = new ArrayList<>(heap);
+            top.sort(order);
+            return top;
+        }
+
+        // ProductService.createSort와 같은 정렬 (동률이면 상품 ID 순)
+        private Comparator<Integer> comparator(Sort sort) {
+            Comparator<Integer> byId = Comparator.comparingLong(docId -> docs.get(docId).productId());
+            Sort.Order order = sort.stream().findFirst().orElse(Sort.Order.asc("id"));
+            Comparator<Integer> primary = switch (order.getProperty()) {
+                case "price" -> Comparator.comparingLong(docId -> docs.get(docId).price());
+                case "name" -> Comparator.comparing(docId -> docs.get(docId).sortName());
+                default -> byId;
+            };
+            if (order.isDescending()) {
+                primary = primary.reversed();
+            }
+            return primary == byId ? byId : primary.thenComparing(byId);
+        }
+
+        double deletedRatio() {
+            lock.readLock().lock();
+            try {
+                return docs.isEmpty() ? 0 : (double) deleted.cardinality() / docs.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        int size() {
+            return docByProductId.size();
+        }
+
+        int gramCount() {
+            return postings.size();
+        }
+    }
+
+    // 정렬된 문서 번호 목록 (박싱 없는 int 배열)
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+        // 정렬된 두 목록의 교집합
+        int[] intersect(int[] other) {
+            int[] result = new int[Math.min(size, other.length)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.length) {
+                if (values[i] < other[j]) {
+                    i++;
+                } else if (values[i] > other[j]) {
+                    j++;
+                } else {
+                    result[count++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+    }
+}
@@ -7,9 +7,12 @@ import com.doosan.common.enums.ApiResponse;
 import com.doosan.productservice.domain.Product;
 import com.doosan.productservice.dto.ProductResponse;
 import com.doosan.productservice.mapper.ProductMapper;
+import com.doosan.productservice.repository.ProductNameView;
+import com.doosan.productservice.repository.ProductPriceView;
 import com.doosan.productservice.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
@@ -17,8 +20,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,6 +36,9 @@ public class ProductService {
 
     private final ProductRepository productRepository; // 상품 레포지토리
     private final ProductMapper productMapper; // 상품 매퍼
+    private final ProductSearchIndex productSearchIndex; // 상품 검색 인덱스
+    private final ProductDetailCache productDetailCache; // 상품 상세 캐시
+    private final ProductResponseCache productResponseCache; // 상품 조회 응답 캐시
 
     // 상품 가격 조회
     public ResponseEntity<ResponseDto<Long>> getProductPrice(Long id) {
@@ -73,6 +82,7 @@ public class ProductService {
 
         product.setQuantity(newStock);
         productRepository.save(product);
+        onStockChanged(orderRequest.getProductId()); // 캐시된 상세의 재고 무효화 (목록은 짧은 유지 시간으로 지연 제한)
         log.info("상품 재고 업데이트 완료. 상품 ID: {}, 현재 재고: {}, 변경 수량: {}, 최종 재고: {}", 
             orderRequest.getProductId(), currentStock, changeAmount, newStock);
     }
@@ -85,6 +95,11 @@ public class ProductService {
 
         PageRequest pageRequest = PageRequest.of(page, size, sorting);
 
+        // 검색어가 있으면 검색 인덱스로 상품 ID를 찾고 해당 페이지 상품만 조회
+        if (keyword != null && productSearchIndex.isReady()) {
+            return searchProducts(keyword, category, pageRequest);
+        }
+
         // 카테고리와 검색어에 따른 조회 조건 분기
         Page<Product> products;
         if (category != null && keyword != null) {
@@ -100,6 +115,21 @@ public class ProductService {
         return products.map(productMapper::toDto);
     }
 
+    private Page<ProductResponse> searchProducts(String keyword, ProductCategory category, PageRequest pageRequest) {
+        Page<Long> productIds = productSearchIndex.search(keyword, category, pageRequest);
+        Map<Long, Product> products = productRepository.findAllById(productIds.getContent())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, product -> product));
+
+        // 검색 순서 유지 (색인 이후 삭제된 상품은 제외)
+        List<ProductResponse> content = productIds.getContent().stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .map(productMapper::toDto)
+                .toList();
+        return new PageImpl<>(content, pageRequest, productIds.getTotalElements());
+    }
+
     // 단일 상품 상세 조회
     public ResponseEntity<ResponseDto<Page<ProductResponse>>> getProductsWithResponse(
             int page, int size, ProductCategory category, String keyword, String sort) {
@@ -130,15 +160,16 @@ public class ProductService {
                 throw new RuntimeException("테스트용 강제 에러 발생");
             }
 
-            // 상품 조회 및 DTO 반환
-            Product product = productRepository.findById(id)
-                    .orElseThrow(() -> new RuntimeException("상품 조회 실패한 ID: " + id));
+            // 상품 조회 및 DTO 반환 (상세 캐시 사용 시 캐시에 없을 때만 조회)
+            ProductResponse product = productDetailCache.get(id, () -> productRepository.findById(id)
+                    .map(productMapper::toDto)
+                    .orElseThrow(() -> new RuntimeException("상품 조회 실패한 ID: " + id)));
 
             return ResponseEntity.ok(
                     ResponseDto.<ProductResponse>builder()
                             .statusCode(HttpStatus.OK.value())
                             .resultMessage(ApiResponse.SEARCH_COMPLETE)
-                            .data(productMapper.toDto(product))
+                            .data(product)
                             .build()
             );
         } catch (Exception e) {
@@ -155,12 +186,13 @@ public class ProductService {
     // 여러 상품의 가격 일괄 조회
     public ResponseEntity<ResponseDto<Map<Long, Long>>> getBulkProductPrices(List<Long> productIds) {
         try {
-            // ID를 키로, 가격을 값으로 하는 Map 생성
-            Map<Long, Long> priceMap = productRepository.findAllById(productIds)
+            // ID를 키로, 가격을 값으로 하는 Map 생성 (가격 컬럼만 조회)
+            Map<Long, Long> priceMap = productRepository.findPricesByIdIn(productIds)
                     .stream()
+                    .filter(product -> product.getPrice() != null)
                     .collect(Collectors.toMap(
-                            Product::getId,
-                            Product::getPrice
+                            ProductPriceView::getId,
+                            ProductPriceView::getPrice
                     ));
 
             return ResponseEntity.ok(
@@ -181,8 +213,72 @@ public class ProductService {
         }
     }
 
-    // 정렬 조건 생성 헬퍼 메서드
-    private Sort createSort(String sort) {
+    // 여러 상품의 이름 일괄 조회 (한 번의 IN 쿼리)
+    public Map<Long, String> getProductNames(List<Long> productIds) {
+        return productRepository.findNamesByIdIn(productIds)
+                .stream()
+                .filter(product -> product.getName() != null)
+                .collect(Collectors.toMap(ProductNameView::getId, ProductNameView::getName));
+    }
+
+    // 여러 상품 정보 일괄 조회 (한 번의 IN 쿼리, 없는 상품은 제외)
+    public List<ProductResponse> getProductsByIds(List<Long> productIds) {
+        return productRepository.findAllById(productIds)
+                .stream()
+                .map(productMapper::toDto)
+                .toList();
+    }
+
+    // 여러 상품의 재고 일괄 조회 (한 번의 IN 쿼리)
+    public Map<Long, Long> getStockQuantities(List<Long> productIds) {
+        return toQuantityMap(productRepository.findAllById(productIds));
+    }
+
+    // 카테고리 전체 상품의 재고 조회
+    public Map<Long, Long> getStockQuantitiesByCategory(ProductCategory category) {
+        return toQuantityMap(productRepository.findAllByCategory(category));
+    }
+
+    private Map<Long, Long> toQuantityMap(List<Product> products) {
+        return products.stream()
+                .filter(product -> product.getQuantity() != null)
+                .collect(Collectors.toMap(Product::getId, Product::getQuantity));
+    }
+
+    // 상품 정보 변경 시 상품 캐시 무효화 (productId가 null이면 전체 상품)
+    // 트랜잭션 안에서 호출되면 커밋 후 무효화 (커밋 전 값을 다시 적재하지 않도록)
+    public void onProductChanged(Long productId) {
+        afterCommit(() -> {
+            if (productId != null) {
+                productDetailCache.evict(productId);
+            }
+            productResponseCache.onProductChanged(productId);
+        });
+    }
+
+    // 재고만 변경된 경우 해당 상품 상세만 무효화 (판매 중 주문마다 전체 목록 캐시를 비우지 않도록)
+    public void onStockChanged(Long productId) {
+        afterCommit(() -> {
+            productDetailCache.evict(productId);
+            productResponseCache.onStockChanged(productId);
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    // 정렬 조건 생성 헬퍼 메서드 (리액티브 조회와 같은 정렬 기준 사용)
+    static Sort createSort(String sort) {
         switch (sort.toLowerCase()) {
             case "price":
                 return Sort.by(Sort.Direction.ASC, "price");
@@ -0,0 +1,126 @@
+package com.doosan.productservice.service;
+
+import com.doosan.common.enums.ProductCategory;
+import com.doosan.productservice.domain.Product;
+import com.doosan.productservice.dto.ProductResponse;
+import com.doosan.productservice.mapper.ProductMapper;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 리액티브 상품 조회 (R2DBC 논블로킹 드라이버로 조회해 요청 스레드를 점유하지 않음)
+// 기존 ProductService와 같은 조회 조건, 정렬, DTO 변환을 사용하고 블로킹 API는 호환을 위해 그대로 유지
+@Service
+@RequiredArgsConstructor
+public class ReactiveProductService {
+
+    private static final String PRODUCT_COLUMNS = "id, name, price, description, category, image_url, quantity";
+
+    private final ConnectionFactory productConnectionFactory; // R2DBC 연결 풀
+    private final ProductMapper productMapper; // 상품 매퍼
+
+    // 단일 상품 조회 (없으면 빈 Mono)
+    public Mono<ProductResponse> getProduct(Long id) {
+        return query("SELECT " + PRODUCT_COLUMNS + " FROM product WHERE id = ?", List.of(id), this::toResponse)
+                .next();
+    }
+
+    // 상품 목록 조회 (페이징, 카테고리, 검색어, 정렬 지원, 목록과 건수를 동시에 조회)
+    public Mono<Page<ProductResponse>> getProducts(int page, int size, ProductCategory category,
+                                                   String keyword, String sort) {
+        PageRequest pageRequest = PageRequest.of(page, size, ProductService.createSort(sort));
+
+        List<String> conditions = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        if (category != null) {
+            conditions.add("category = ?");
+            args.add(category.name());
+        }
+        if (keyword != null) {
+            conditions.add("name LIKE CONCAT('%', ?, '%')");
+            args.add(keyword);
+        }
+        String where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+
+        List<Object> pageArgs = new ArrayList<>(args);
+        pageArgs.add(pageRequest.getPageSize());
+        pageArgs.add(pageRequest.getOffset());
+
+        Mono<List<ProductResponse>> content = query(
+                "SELECT " + PRODUCT_COLUMNS + " FROM product" + where + orderBy(pageRequest.getSort()) + " LIMIT ? OFFSET ?",
+                pageArgs, this::toResponse)
+                .collectList();
+        Mono<Long> total = query("SELECT COUNT(*) AS total FROM product" + where, args,
+                row -> row.get("total", Long.class))
+                .next();
+
+        return Mono.zip(content, total)
+                .map(result -> new PageImpl<>(result.getT1(), pageRequest, result.getT2()));
+    }
+
+    // 여러 상품의 가격 일괄 조회 (한 번의 IN 쿼리)
+    public Mono<Map<Long, Long>> getBulkProductPrices(List<Long> productIds) {
+        List<Long> distinctIds = productIds.stream().distinct().toList();
+        if (distinctIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        String placeholders = String.join(", ", Collections.nCopies(distinctIds.size(), "?"));
+        return query("SELECT id, price FROM product WHERE id IN (" + placeholders + ")", new ArrayList<>(distinctIds),
+                row -> Map.entry(row.get("id", Long.class), row.get("price", Long.class)))
+                .filter(entry -> entry.getValue() != null)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    // 연결을 빌려 쿼리를 실행하고 결과를 모두 읽으면(또는 취소/오류 시) 연결을 풀에 반환
+    private <T> Flux<T> query(String sql, List<?> args, Function<Row, T> mapper) {
+        return Flux.usingWhen(
+                productConnectionFactory.create(),
+                connection -> {
+                    Statement statement = connection.createStatement(sql);
+                    for (int i = 0; i < args.size(); i++) {
+                        statement.bind(i, args.get(i));
+                    }
+                    return Flux.from(statement.execute())
+                            .flatMap(result -> result.map((row, metadata) -> mapper.apply(row)));
+                },
+                Connection::close);
+    }
+
+    // ProductService.createSort 정렬 조건을 ORDER BY 절로 변환 (정렬 기준은 id, price, name만 허용)
+    private String orderBy(Sort sort) {
+        String orders = sort.stream()
+                .filter(order -> List.of("id", "price", "name").contains(order.getProperty()))
+                .map(order -> order.getProperty() + (order.isAscending() ? " ASC" : " DESC"))
+                .collect(Collectors.joining(", "));
+        return orders.isEmpty() ? " ORDER BY id ASC" : " ORDER BY " + orders;
+    }
+
+    // 블로킹 조회와 같은 변환을 거치도록 엔티티로 옮긴 뒤 매퍼 사용
+    private ProductResponse toResponse(Row row) {
+        Product product = new Product();
+        product.setId(row.get("id", Long.class));
+        product.setName(row.get("name", String.class));
+        product.setPrice(row.get("price", Long.class));
+        product.setDescription(row.get("description", String.class));
+        product.setCategory(ProductCategory.valueOf(row.get("category", String.class)));
+        product.setImageUrl(row.get("image_url", String.class));
+        product.setQuantity(row.get("quantity", Long.class));
+        return productMapper.toDto(product);
+    }
+}